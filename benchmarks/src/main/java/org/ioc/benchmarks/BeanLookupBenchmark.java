@@ -0,0 +1,85 @@
+package org.ioc.benchmarks;
+
+import org.ioc.InitApplicationContext;
+import org.ioc.benchmarks.generator.ComponentGraphGenerator;
+import org.ioc.benchmarks.generator.GeneratedComponents;
+import org.ioc.benchmarks.generator.GraphShape;
+import org.ioc.contex.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of singleton components by type and by name in a context of generated components. Every invocation looks
+ * up the next component, so the lookups are spread over the whole context. Run with {@code -prof gc} to check that
+ * lookups by type do not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanLookupBenchmark {
+    @Param({"100", "1000"})
+    public int components;
+
+    @Param({"PLAIN", "MIXED"})
+    public GraphShape shape;
+
+    private GeneratedComponents generatedComponents;
+    private ApplicationContext applicationContext;
+    private Class<?>[] componentTypes;
+    private String[] instanceNames;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.generatedComponents = this.shape.configure(new ComponentGraphGenerator())
+                .components(this.components)
+                .writeTo(Files.createTempDirectory("ioc-lookup"));
+        final ClassLoader classLoader = this.generatedComponents.createClassLoader();
+        this.applicationContext = InitApplicationContext.run(
+                this.generatedComponents.getFiles(),
+                this.generatedComponents.createConfiguration(classLoader)
+        );
+        this.componentTypes = this.generatedComponents.loadComponentClasses(classLoader).toArray(new Class<?>[0]);
+        this.instanceNames = this.generatedComponents.getInstanceNames().toArray(new String[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.generatedComponents.delete();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(int length) {
+            final int index = this.next;
+            this.next = index + 1 == length ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public Object getBeanByClass(Cursor cursor) {
+        return this.applicationContext.getBean(this.componentTypes[cursor.next(this.componentTypes.length)]);
+    }
+
+    /**
+     * Same lookups as {@link #getBeanByClass(Cursor)} from 64 threads at once, to show contention on the lookup path.
+     */
+    @Benchmark
+    @Threads(64)
+    public Object getBeanByClassContended(Cursor cursor) {
+        return this.applicationContext.getBean(this.componentTypes[cursor.next(this.componentTypes.length)]);
+    }
+
+    @Benchmark
+    public Object getBeanByName(Cursor cursor) {
+        return this.applicationContext.getBean(this.instanceNames[cursor.next(this.instanceNames.length)]);
+    }
+}
@@ -0,0 +1,61 @@
+package org.ioc.benchmarks;
+
+import org.ioc.benchmarks.generator.ComponentGraphGenerator;
+import org.ioc.benchmarks.generator.GeneratedComponents;
+import org.ioc.benchmarks.generator.GraphShape;
+import org.ioc.configuration.Configuration;
+import org.ioc.engine.ComponentModel;
+import org.ioc.engine.EnqueuedComponentDetails;
+import org.ioc.engine.core.DependencyResolveComponent;
+import org.ioc.engine.core.LoaderComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of {@link DependencyResolveComponent#resolveDependencies(java.util.Collection)} on the component models of a
+ * generated dependency graph of each {@link GraphShape}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyResolutionBenchmark {
+    @Param({"100", "1000"})
+    public int components;
+
+    @Param({"PLAIN", "MIXED"})
+    public GraphShape shape;
+
+    private GeneratedComponents generatedComponents;
+    private DependencyResolveComponent dependencyResolveComponent;
+    private Set<ComponentModel> componentModels;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.generatedComponents = this.shape.configure(new ComponentGraphGenerator())
+                .components(this.components)
+                .writeTo(Files.createTempDirectory("ioc-resolve"));
+        final ClassLoader classLoader = this.generatedComponents.createClassLoader();
+        final Configuration configuration = this.generatedComponents.createConfiguration(classLoader);
+        this.componentModels = new LoaderComponent(configuration.scanning())
+                .mappingComponent(this.generatedComponents.loadClasses(classLoader));
+        this.dependencyResolveComponent = new DependencyResolveComponent(configuration.instantiations());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.generatedComponents.delete();
+    }
+
+    @Benchmark
+    public List<EnqueuedComponentDetails> resolveDependencies() {
+        return this.dependencyResolveComponent.resolveDependencies(this.componentModels);
+    }
+}
@@ -0,0 +1,60 @@
+package org.ioc.benchmarks;
+
+import org.ioc.InitApplicationContext;
+import org.ioc.benchmarks.fixtures.Dictionary;
+import org.ioc.benchmarks.fixtures.Parser;
+import org.ioc.benchmarks.fixtures.Tokenizer;
+import org.ioc.configuration.Configuration;
+import org.ioc.contex.ApplicationContext;
+import org.ioc.engine.ComponentModel;
+import org.ioc.stereotype.Component;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instances per second of a {@link org.ioc.engine.ScopeType#PROTOTYPE} component with one constructor dependency,
+ * one autowired field and a post construct method, created through the compiled factory or through reflection, and
+ * through {@link ApplicationContext#getNewBean(Class)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrototypeCreationBenchmark {
+    @Param({"compiled", "reflective"})
+    public String factory;
+
+    private ApplicationContext applicationContext;
+    private ComponentModel parserModel;
+
+    @Setup
+    public void setUp() {
+        final Configuration configuration = new Configuration()
+                .scanning()
+                .addAdditionalClassesForScanning(Map.of(
+                        Tokenizer.class, Component.class,
+                        Dictionary.class, Component.class,
+                        Parser.class, Component.class))
+                .and();
+        this.applicationContext = InitApplicationContext.run(new File[0], configuration);
+        this.parserModel = this.applicationContext.getDefineBean(Parser.class);
+        if ("reflective".equals(this.factory)) {
+            this.parserModel.setComponentFactory(null);
+        }
+    }
+
+    @Benchmark
+    public Object createPrototype() {
+        return this.parserModel.getInstance();
+    }
+
+    @Benchmark
+    public Object getNewBean() {
+        return this.applicationContext.getNewBean(Parser.class);
+    }
+}
@@ -0,0 +1,56 @@
+package org.ioc.benchmarks;
+
+import org.ioc.InitApplicationContext;
+import org.ioc.benchmarks.fixtures.aspects.*;
+import org.ioc.configuration.Configuration;
+import org.ioc.contex.ApplicationContext;
+import org.ioc.stereotype.Component;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Method calls on a proxied component through {@link org.ioc.engine.MethodInvocationHandler}, with no aspect
+ * ({@link org.ioc.engine.ScopeType#PROXY} scope), one aspect and a chain of three aspects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyInvocationBenchmark {
+    @Param({"0", "1", "3"})
+    public int aspects;
+
+    private Calculator calculator;
+    private int operand;
+
+    @Setup
+    public void setUp() {
+        final Configuration configuration = new Configuration()
+                .scanning()
+                .addAdditionalClassesForScanning(Map.of(
+                        TimedAspectHandler.class, Component.class,
+                        TracedAspectHandler.class, Component.class,
+                        AuditedAspectHandler.class, Component.class,
+                        ProxiedCalculator.class, Component.class,
+                        TimedCalculator.class, Component.class,
+                        AuditedCalculator.class, Component.class))
+                .and();
+        final ApplicationContext applicationContext = InitApplicationContext.run(new File[0], configuration);
+        final Map<Integer, Class<? extends Calculator>> calculators = Map.of(
+                0, ProxiedCalculator.class,
+                1, TimedCalculator.class,
+                3, AuditedCalculator.class
+        );
+        this.calculator = applicationContext.getBean(calculators.get(this.aspects));
+    }
+
+    @Benchmark
+    public int invoke() {
+        return this.calculator.add(this.operand++, 1);
+    }
+}
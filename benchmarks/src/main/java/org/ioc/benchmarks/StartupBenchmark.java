@@ -0,0 +1,57 @@
+package org.ioc.benchmarks;
+
+import org.ioc.InitApplicationContext;
+import org.ioc.benchmarks.generator.ComponentGraphGenerator;
+import org.ioc.benchmarks.generator.GeneratedComponents;
+import org.ioc.benchmarks.generator.GraphShape;
+import org.ioc.contex.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of {@link InitApplicationContext#run(java.io.File[], org.ioc.configuration.Configuration)} on a generated
+ * classpath of each {@link GraphShape}: scanning, mapping, dependency resolution and instantiation of every component.
+ * <p>
+ * The classes are loaded once by the trial class loader, so class loading is not part of the measured time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int components;
+
+    @Param({"PLAIN", "MIXED"})
+    public GraphShape shape;
+
+    private GeneratedComponents generatedComponents;
+    private ClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.generatedComponents = this.shape.configure(new ComponentGraphGenerator())
+                .components(this.components)
+                .writeTo(Files.createTempDirectory("ioc-startup"));
+        this.classLoader = this.generatedComponents.createClassLoader();
+        this.generatedComponents.loadClasses(this.classLoader);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.generatedComponents.delete();
+    }
+
+    @Benchmark
+    public ApplicationContext run() {
+        return InitApplicationContext.run(
+                this.generatedComponents.getFiles(),
+                this.generatedComponents.createConfiguration(this.classLoader)
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package org.ioc.benchmarks.fixtures;
+
+import org.ioc.stereotype.Component;
+
+@Component
+public class Dictionary {
+    public boolean contains(String word) {
+        return !word.isEmpty();
+    }
+}
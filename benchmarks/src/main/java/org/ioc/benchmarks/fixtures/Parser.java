@@ -0,0 +1,40 @@
+package org.ioc.benchmarks.fixtures;
+
+import org.ioc.engine.ScopeType;
+import org.ioc.stereotype.Autowired;
+import org.ioc.stereotype.Component;
+import org.ioc.stereotype.PostConstruct;
+import org.ioc.stereotype.Scope;
+
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class Parser {
+    private final Tokenizer tokenizer;
+
+    @Autowired
+    private Dictionary dictionary;
+
+    private int position;
+
+    @Autowired
+    public Parser(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    @PostConstruct
+    void init() {
+        this.position = -1;
+    }
+
+    public Tokenizer getTokenizer() {
+        return this.tokenizer;
+    }
+
+    public Dictionary getDictionary() {
+        return this.dictionary;
+    }
+
+    public int getPosition() {
+        return this.position;
+    }
+}
@@ -0,0 +1,10 @@
+package org.ioc.benchmarks.fixtures;
+
+import org.ioc.stereotype.Component;
+
+@Component
+public class Tokenizer {
+    public String[] tokenize(String input) {
+        return input.split(" ");
+    }
+}
@@ -0,0 +1,22 @@
+package org.ioc.benchmarks.fixtures.aspects;
+
+import org.ioc.engine.ComponentMethodAspectHandler;
+import org.ioc.engine.MethodInvocationChain;
+import org.ioc.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+@Component
+public class AuditedAspectHandler implements ComponentMethodAspectHandler<Audited> {
+    private long invocations;
+
+    @Override
+    public Object proceed(Audited annotation, Method method, Object[] params, MethodInvocationChain invocationChain) throws Exception {
+        this.invocations++;
+        return invocationChain.proceed();
+    }
+
+    public long getInvocations() {
+        return this.invocations;
+    }
+}
@@ -0,0 +1,14 @@
+package org.ioc.benchmarks.fixtures.aspects;
+
+import org.ioc.stereotype.Component;
+
+@Component
+public class AuditedCalculator implements Calculator {
+    @Override
+    @Timed
+    @Traced
+    @Audited
+    public int add(int a, int b) {
+        return a + b;
+    }
+}
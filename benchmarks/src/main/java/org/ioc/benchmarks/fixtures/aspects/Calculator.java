@@ -0,0 +1,5 @@
+package org.ioc.benchmarks.fixtures.aspects;
+
+public interface Calculator {
+    int add(int a, int b);
+}
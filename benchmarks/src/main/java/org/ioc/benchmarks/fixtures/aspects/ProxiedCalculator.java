@@ -0,0 +1,14 @@
+package org.ioc.benchmarks.fixtures.aspects;
+
+import org.ioc.engine.ScopeType;
+import org.ioc.stereotype.Component;
+import org.ioc.stereotype.Scope;
+
+@Component
+@Scope(ScopeType.PROXY)
+public class ProxiedCalculator implements Calculator {
+    @Override
+    public int add(int a, int b) {
+        return a + b;
+    }
+}
@@ -0,0 +1,12 @@
+package org.ioc.benchmarks.fixtures.aspects;
+
+import org.ioc.stereotype.Component;
+
+@Component
+public class TimedCalculator implements Calculator {
+    @Override
+    @Timed
+    public int add(int a, int b) {
+        return a + b;
+    }
+}
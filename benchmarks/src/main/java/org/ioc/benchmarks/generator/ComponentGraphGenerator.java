@@ -0,0 +1,536 @@
+package org.ioc.benchmarks.generator;
+
+import javassist.*;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.ParameterAnnotationsAttribute;
+import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.EnumMemberValue;
+import javassist.bytecode.annotation.StringMemberValue;
+import org.ioc.engine.ComponentMethodAspectHandler;
+import org.ioc.stereotype.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Generates compiled {@link Component} classes forming a random dependency graph, so that the container can be
+ * benchmarked on classpaths much larger and more varied than the sample classes.
+ * <p>
+ * Component {@code i} depends through its {@link Autowired} constructor on components and beans generated before it, so
+ * the graph never has cycles. The shape of the graph is configurable:
+ * <ul>
+ *     <li>{@link #fanOut(int)} and {@link #maxFanIn(int)} - dependencies per component and dependents per component.</li>
+ *     <li>{@link #depth(int)} - number of layers, every component depends on the layer just below its own.</li>
+ *     <li>{@link #beanRatio(double)} - components that also produce a bean with a {@link Bean} method.</li>
+ *     <li>{@link #qualifierRatio(double)} - dependencies injected by a shared interface and {@link Qualifier}.</li>
+ *     <li>{@link #collectionRatio(double)} - components injecting the list of all components of a lower group.</li>
+ *     <li>{@link #aspects(int)} and {@link #aspectRatio(double)} - aspect annotations with their handlers, and
+ *     components having a method annotated with some of them.</li>
+ * </ul>
+ * The same seed and options always generate the same classes. The classes are written to a directory with
+ * {@link #writeTo(Path)} or to a jar with {@link #writeJar(Path)}, both can be scanned with
+ * {@link org.ioc.InitApplicationContext#run(java.io.File[], org.ioc.configuration.Configuration)}.
+ */
+public class ComponentGraphGenerator {
+    private static final String GENERATION_FAILED_MSG = "Could not generate class '%s'.";
+    private static final String INVALID_ARGUMENT_MSG = "Invalid argument '%s', expected --option=value.";
+    private static final String UNKNOWN_OPTION_MSG = "Unknown option '%s'.";
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final int MAX_PICK_ATTEMPTS = 16;
+
+    private int components = 100;
+    private int fanOut = 2;
+    private int maxFanIn;
+    private int depth;
+    private double beanRatio;
+    private double qualifierRatio;
+    private double collectionRatio;
+    private int groupSize = 16;
+    private int aspects;
+    private double aspectRatio;
+    private long seed = 42L;
+    private String packageName = "org.ioc.benchmarks.generated";
+
+    public ComponentGraphGenerator components(int components) {
+        this.components = components;
+        return this;
+    }
+
+    /**
+     * @param fanOut - Max number of components and beans a component depends on.
+     */
+    public ComponentGraphGenerator fanOut(int fanOut) {
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * @param maxFanIn - Max number of components depending on a component or bean, 0 for no limit.
+     */
+    public ComponentGraphGenerator maxFanIn(int maxFanIn) {
+        this.maxFanIn = maxFanIn;
+        return this;
+    }
+
+    /**
+     * @param depth - Number of layers of the graph, 0 to let components depend on any component generated before them.
+     */
+    public ComponentGraphGenerator depth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    public ComponentGraphGenerator beanRatio(double beanRatio) {
+        this.beanRatio = beanRatio;
+        return this;
+    }
+
+    public ComponentGraphGenerator qualifierRatio(double qualifierRatio) {
+        this.qualifierRatio = qualifierRatio;
+        return this;
+    }
+
+    public ComponentGraphGenerator collectionRatio(double collectionRatio) {
+        this.collectionRatio = collectionRatio;
+        return this;
+    }
+
+    /**
+     * @param groupSize - Number of consecutive components implementing the same group interface, which is the element
+     *                  type of the injected collections.
+     */
+    public ComponentGraphGenerator groupSize(int groupSize) {
+        this.groupSize = groupSize;
+        return this;
+    }
+
+    public ComponentGraphGenerator aspects(int aspects) {
+        this.aspects = aspects;
+        return this;
+    }
+
+    public ComponentGraphGenerator aspectRatio(double aspectRatio) {
+        this.aspectRatio = aspectRatio;
+        return this;
+    }
+
+    public ComponentGraphGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public ComponentGraphGenerator packageName(String packageName) {
+        this.packageName = packageName;
+        return this;
+    }
+
+    /**
+     * Writes the class files of the generated components to the given directory.
+     *
+     * @param directory - Root directory of the class files, created if missing.
+     * @return - The generated components.
+     */
+    public GeneratedComponents writeTo(Path directory) throws IOException {
+        final Generation generation = this.generate();
+        for (Map.Entry<String, byte[]> classFile : generation.classFiles.entrySet()) {
+            final Path file = directory.resolve(classFile.getKey().replace('.', '/') + CLASS_FILE_EXTENSION);
+            Files.createDirectories(file.getParent());
+            Files.write(file, classFile.getValue());
+        }
+        return generation.toGeneratedComponents(directory);
+    }
+
+    /**
+     * Writes the class files of the generated components to a new jar.
+     *
+     * @param jar - The jar file, replaced if it exists.
+     * @return - The generated components.
+     */
+    public GeneratedComponents writeJar(Path jar) throws IOException {
+        final Generation generation = this.generate();
+        if (jar.getParent() != null) {
+            Files.createDirectories(jar.getParent());
+        }
+        try (OutputStream outputStream = Files.newOutputStream(jar);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            for (Map.Entry<String, byte[]> classFile : generation.classFiles.entrySet()) {
+                jarOutputStream.putNextEntry(new JarEntry(classFile.getKey().replace('.', '/') + CLASS_FILE_EXTENSION));
+                jarOutputStream.write(classFile.getValue());
+                jarOutputStream.closeEntry();
+            }
+        }
+        return generation.toGeneratedComponents(jar);
+    }
+
+    private Generation generate() {
+        final Generation generation = new Generation(new Random(this.seed));
+        generation.classPool.appendClassPath(new ClassClassPath(ComponentMethodAspectHandler.class));
+        generation.nodeInterface = generation.emit(generation.classPool.makeInterface(this.className("Node")));
+        if (this.collectionRatio > 0) {
+            for (int group = 0; group * this.groupSize < this.components; group++) {
+                generation.groupInterfaces.add(generation.emit(generation.classPool.makeInterface(this.groupName(group))));
+            }
+        }
+        for (int aspect = 0; aspect < this.aspects; aspect++) {
+            generation.aspectAnnotations.add(this.generateAspect(generation, aspect));
+        }
+        for (int i = 0; i < this.components; i++) {
+            this.generateComponent(generation, i);
+        }
+        return generation;
+    }
+
+    /**
+     * Generates the annotation of an aspect and its {@link ComponentMethodAspectHandler}, which just proceeds.
+     *
+     * @return - The name of the annotation.
+     */
+    private String generateAspect(Generation generation, int aspect) {
+        final String annotationName = this.className("Aspect" + aspect);
+        final CtClass annotation = generation.classPool.makeAnnotation(annotationName);
+        final ConstPool annotationConstPool = annotation.getClassFile().getConstPool();
+        final Annotation retention = new Annotation(Retention.class.getName(), annotationConstPool);
+        final EnumMemberValue retentionPolicy = new EnumMemberValue(annotationConstPool);
+        retentionPolicy.setType(RetentionPolicy.class.getName());
+        retentionPolicy.setValue(RetentionPolicy.RUNTIME.name());
+        retention.addMemberValue("value", retentionPolicy);
+        this.addAnnotations(annotation.getClassFile().getConstPool(), annotation.getClassFile()::addAttribute, retention);
+        generation.emit(annotation);
+
+        final String handlerName = annotationName + "Handler";
+        final CtClass handler = generation.classPool.makeClass(handlerName);
+        try {
+            handler.addInterface(generation.classPool.get(ComponentMethodAspectHandler.class.getName()));
+            handler.setGenericSignature("Ljava/lang/Object;" + this.descriptor(ComponentMethodAspectHandler.class.getName())
+                    .replace(";", "<" + this.descriptor(annotationName) + ">;"));
+            handler.addConstructor(CtNewConstructor.defaultConstructor(handler));
+            handler.addMethod(CtNewMethod.make("public Object proceed(java.lang.annotation.Annotation annotation, "
+                    + "java.lang.reflect.Method method, Object[] params, org.ioc.engine.MethodInvocationChain invocationChain) "
+                    + "throws Exception { return invocationChain.proceed(); }", handler));
+        } catch (CannotCompileException | NotFoundException e) {
+            throw new IllegalStateException(String.format(GENERATION_FAILED_MSG, handlerName), e);
+        }
+        this.addAnnotations(handler.getClassFile().getConstPool(), handler.getClassFile()::addAttribute,
+                this.componentAnnotations(handler.getClassFile().getConstPool(), null));
+        generation.emit(handler);
+        return annotationName;
+    }
+
+    private void generateComponent(Generation generation, int index) {
+        final Random random = generation.random;
+        final String className = this.className("Component" + index);
+        final String instanceName = "component" + index;
+        generation.startComponent(index, this.layerOf(index));
+        final List<GeneratedType> dependencies = this.pickDependencies(generation);
+        final boolean[] qualified = new boolean[dependencies.size()];
+        for (int i = 0; i < qualified.length; i++) {
+            qualified[i] = random.nextDouble() < this.qualifierRatio;
+        }
+        final int collectionGroup = this.pickCollectionGroup(generation, index);
+
+        final CtClass component = generation.classPool.makeClass(className);
+        component.addInterface(generation.nodeInterface);
+        if (!generation.groupInterfaces.isEmpty()) {
+            component.addInterface(generation.groupInterfaces.get(index / this.groupSize));
+        }
+        final ConstPool constPool = component.getClassFile().getConstPool();
+        this.addAnnotations(constPool, component.getClassFile()::addAttribute, this.componentAnnotations(constPool, instanceName));
+        GeneratedType bean = null;
+        try {
+            this.addConstructor(generation, component, dependencies, qualified, collectionGroup);
+            if (random.nextDouble() < this.beanRatio) {
+                bean = this.addBean(generation, component, index);
+            }
+            if (!generation.aspectAnnotations.isEmpty() && random.nextDouble() < this.aspectRatio) {
+                this.addAspectMethod(generation, component);
+            }
+        } catch (CannotCompileException | NotFoundException e) {
+            throw new IllegalStateException(String.format(GENERATION_FAILED_MSG, className), e);
+        }
+        generation.emit(component);
+        generation.addComponent(new GeneratedType(className, instanceName), bean);
+    }
+
+    /**
+     * Adds one field per dependency and an {@link Autowired} constructor assigning them. Qualified dependencies are
+     * injected by the shared node interface and a {@link Qualifier}, the collection, if any, is the last parameter.
+     */
+    private void addConstructor(Generation generation, CtClass component, List<GeneratedType> dependencies,
+                                boolean[] qualified, int collectionGroup) throws CannotCompileException, NotFoundException {
+        final ClassPool classPool = generation.classPool;
+        final ConstPool constPool = component.getClassFile().getConstPool();
+        final int parameterCount = dependencies.size() + (collectionGroup >= 0 ? 1 : 0);
+        final CtClass[] parameterTypes = new CtClass[parameterCount];
+        final Annotation[][] parameterAnnotations = new Annotation[parameterCount][];
+        final StringBuilder signature = new StringBuilder("(");
+        final StringBuilder body = new StringBuilder("{ super();");
+        for (int i = 0; i < parameterCount; i++) {
+            final String typeName;
+            if (i == dependencies.size()) {
+                parameterTypes[i] = classPool.get(List.class.getName());
+                typeName = List.class.getName();
+                signature.append(this.descriptor(typeName).replace(";", "<" + this.descriptor(this.groupName(collectionGroup)) + ">;"));
+                parameterAnnotations[i] = new Annotation[0];
+            } else if (qualified[i]) {
+                parameterTypes[i] = generation.nodeInterface;
+                typeName = generation.nodeInterface.getName();
+                signature.append(this.descriptor(typeName));
+                final Annotation qualifier = new Annotation(Qualifier.class.getName(), constPool);
+                qualifier.addMemberValue("value", new StringMemberValue(dependencies.get(i).instanceName, constPool));
+                parameterAnnotations[i] = new Annotation[]{qualifier};
+            } else {
+                parameterTypes[i] = classPool.get(dependencies.get(i).className);
+                typeName = dependencies.get(i).className;
+                signature.append(this.descriptor(typeName));
+                parameterAnnotations[i] = new Annotation[0];
+            }
+            component.addField(new CtField(parameterTypes[i], "dependency" + i, component));
+            body.append(" this.dependency").append(i).append(" = $").append(i + 1).append(';');
+        }
+        body.append(" }");
+        signature.append(")V");
+
+        final CtConstructor constructor = new CtConstructor(parameterTypes, component);
+        constructor.setModifiers(Modifier.PUBLIC);
+        constructor.setBody(body.toString());
+        if (collectionGroup >= 0) {
+            constructor.setGenericSignature(signature.toString());
+        }
+        this.addAnnotations(constPool, constructor.getMethodInfo()::addAttribute, new Annotation(Autowired.class.getName(), constPool));
+        if (parameterCount > 0) {
+            final ParameterAnnotationsAttribute attribute = new ParameterAnnotationsAttribute(constPool, ParameterAnnotationsAttribute.visibleTag);
+            attribute.setAnnotations(parameterAnnotations);
+            constructor.getMethodInfo().addAttribute(attribute);
+        }
+        component.addConstructor(constructor);
+    }
+
+    /**
+     * Generates a plain class and a {@link Bean} method of the component producing it.
+     */
+    private GeneratedType addBean(Generation generation, CtClass component, int index)
+            throws CannotCompileException {
+        final String beanClassName = this.className("Bean" + index);
+        final String beanInstanceName = "bean" + index;
+        final CtClass beanClass = generation.classPool.makeClass(beanClassName);
+        beanClass.addInterface(generation.nodeInterface);
+        beanClass.addConstructor(CtNewConstructor.defaultConstructor(beanClass));
+        generation.emit(beanClass);
+
+        final CtMethod beanMethod = CtNewMethod.make(String.format(
+                "public %s %s() { return new %s(); }", beanClassName, beanInstanceName, beanClassName), component);
+        final ConstPool constPool = component.getClassFile().getConstPool();
+        final Annotation namedInstance = new Annotation(NamedInstance.class.getName(), constPool);
+        namedInstance.addMemberValue("value", new StringMemberValue(beanInstanceName, constPool));
+        this.addAnnotations(constPool, beanMethod.getMethodInfo()::addAttribute,
+                new Annotation(Bean.class.getName(), constPool), namedInstance);
+        component.addMethod(beanMethod);
+        return new GeneratedType(beanClassName, beanInstanceName);
+    }
+
+    /**
+     * Adds a method annotated with a random, non empty subset of the aspects, which makes the component a proxy.
+     */
+    private void addAspectMethod(Generation generation, CtClass component) throws CannotCompileException {
+        final CtMethod method = CtNewMethod.make("public int work(int value) { return value + 1; }", component);
+        final List<String> aspectAnnotations = new ArrayList<>(generation.aspectAnnotations);
+        Collections.shuffle(aspectAnnotations, generation.random);
+        final int count = 1 + generation.random.nextInt(aspectAnnotations.size());
+        final ConstPool constPool = component.getClassFile().getConstPool();
+        this.addAnnotations(constPool, method.getMethodInfo()::addAttribute, aspectAnnotations.subList(0, count).stream()
+                .map(aspectAnnotation -> new Annotation(aspectAnnotation, constPool))
+                .toArray(Annotation[]::new));
+        component.addMethod(method);
+    }
+
+    /**
+     * Picks up to {@link #fanOut} distinct dependencies. With layers, the first one is taken from the layer just below
+     * and the others from any lower layer. Types that reached {@link #maxFanIn} dependents are skipped.
+     */
+    private List<GeneratedType> pickDependencies(Generation generation) {
+        final int lowerTypes = this.depth > 0 ? generation.layerStartType : generation.types.size();
+        final int previousLayerTypes = this.depth > 0 ? generation.previousLayerStartType : 0;
+        final Set<GeneratedType> dependencies = new LinkedHashSet<>();
+        final int count = Math.min(this.fanOut, lowerTypes);
+        for (int attempt = 0; dependencies.size() < count && attempt < count * MAX_PICK_ATTEMPTS; attempt++) {
+            final int from = dependencies.isEmpty() ? previousLayerTypes : 0;
+            final GeneratedType candidate = generation.types.get(from + generation.random.nextInt(lowerTypes - from));
+            if (this.maxFanIn <= 0 || candidate.dependents < this.maxFanIn) {
+                dependencies.add(candidate);
+            }
+        }
+        for (GeneratedType dependency : dependencies) {
+            dependency.dependents++;
+        }
+        return new ArrayList<>(dependencies);
+    }
+
+    /**
+     * @return - A group whose components are all in a lower layer, or -1 if the component injects no collection.
+     */
+    private int pickCollectionGroup(Generation generation, int index) {
+        final int lowerComponents = this.depth > 0 ? generation.layerStartComponent : index;
+        final int lowerGroups = lowerComponents / this.groupSize;
+        if (lowerGroups == 0 || generation.random.nextDouble() >= this.collectionRatio) {
+            return -1;
+        }
+        return generation.random.nextInt(lowerGroups);
+    }
+
+    private int layerOf(int index) {
+        return this.depth > 0 ? (int) ((long) index * this.depth / this.components) : 0;
+    }
+
+    private Annotation[] componentAnnotations(ConstPool constPool, String instanceName) {
+        final Annotation component = new Annotation(Component.class.getName(), constPool);
+        if (instanceName == null) {
+            return new Annotation[]{component};
+        }
+        final Annotation namedInstance = new Annotation(NamedInstance.class.getName(), constPool);
+        namedInstance.addMemberValue("value", new StringMemberValue(instanceName, constPool));
+        return new Annotation[]{component, namedInstance};
+    }
+
+    private void addAnnotations(ConstPool constPool, AttributeTarget target, Annotation... annotations) {
+        final AnnotationsAttribute attribute = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        for (Annotation annotation : annotations) {
+            attribute.addAnnotation(annotation);
+        }
+        target.addAttribute(attribute);
+    }
+
+    private String className(String simpleName) {
+        return this.packageName + "." + simpleName;
+    }
+
+    private String groupName(int group) {
+        return this.className("Group" + group);
+    }
+
+    private String descriptor(String className) {
+        return "L" + className.replace('.', '/') + ";";
+    }
+
+    /**
+     * Generates a graph from the command line, e.g.
+     * {@code --components=5000 --fan-out=4 --depth=20 --bean-ratio=0.2 --output=target/graph.jar}. The output is a jar
+     * if it ends with .jar, a directory otherwise.
+     *
+     * @param args - Options as --option=value.
+     */
+    public static void main(String[] args) throws IOException {
+        final ComponentGraphGenerator generator = new ComponentGraphGenerator();
+        Path output = Path.of("target", "generated-components");
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException(String.format(INVALID_ARGUMENT_MSG, arg));
+            }
+            final String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "components": generator.components(Integer.parseInt(value)); break;
+                case "fan-out": generator.fanOut(Integer.parseInt(value)); break;
+                case "max-fan-in": generator.maxFanIn(Integer.parseInt(value)); break;
+                case "depth": generator.depth(Integer.parseInt(value)); break;
+                case "bean-ratio": generator.beanRatio(Double.parseDouble(value)); break;
+                case "qualifier-ratio": generator.qualifierRatio(Double.parseDouble(value)); break;
+                case "collection-ratio": generator.collectionRatio(Double.parseDouble(value)); break;
+                case "group-size": generator.groupSize(Integer.parseInt(value)); break;
+                case "aspects": generator.aspects(Integer.parseInt(value)); break;
+                case "aspect-ratio": generator.aspectRatio(Double.parseDouble(value)); break;
+                case "seed": generator.seed(Long.parseLong(value)); break;
+                case "package": generator.packageName(value); break;
+                case "output": output = Path.of(value); break;
+                default: throw new IllegalArgumentException(String.format(UNKNOWN_OPTION_MSG, arg));
+            }
+        }
+        final GeneratedComponents generatedComponents = output.toString().endsWith(".jar")
+                ? generator.writeJar(output)
+                : generator.writeTo(output);
+        System.out.printf("Generated %d components (%d classes) in %s%n",
+                generatedComponents.getComponentClassNames().size(), generatedComponents.getClassNames().size(),
+                generatedComponents.getLocation().toAbsolutePath());
+    }
+
+    @FunctionalInterface
+    private interface AttributeTarget {
+        void addAttribute(javassist.bytecode.AttributeInfo attributeInfo);
+    }
+
+    /**
+     * A component or bean that can be injected.
+     */
+    private static final class GeneratedType {
+        private final String className;
+        private final String instanceName;
+        private int dependents;
+
+        private GeneratedType(String className, String instanceName) {
+            this.className = className;
+            this.instanceName = instanceName;
+        }
+    }
+
+    /**
+     * State of one generation: the class pool, the emitted class files and the injectable types in generation order.
+     */
+    private static final class Generation {
+        private final ClassPool classPool = new ClassPool(true);
+        private final Map<String, byte[]> classFiles = new LinkedHashMap<>();
+        private final List<CtClass> groupInterfaces = new ArrayList<>();
+        private final List<String> aspectAnnotations = new ArrayList<>();
+        private final List<GeneratedType> types = new ArrayList<>();
+        private final List<String> componentClassNames = new ArrayList<>();
+        private final List<String> componentInstanceNames = new ArrayList<>();
+        private final Random random;
+        private CtClass nodeInterface;
+        private int layer = -1;
+        private int layerStartComponent;
+        private int layerStartType;
+        private int previousLayerStartType;
+
+        private Generation(Random random) {
+            this.random = random;
+        }
+
+        private void startComponent(int index, int layer) {
+            if (layer != this.layer) {
+                this.layer = layer;
+                this.previousLayerStartType = this.layerStartType;
+                this.layerStartType = this.types.size();
+                this.layerStartComponent = index;
+            }
+        }
+
+        private void addComponent(GeneratedType component, GeneratedType bean) {
+            this.types.add(component);
+            this.componentClassNames.add(component.className);
+            this.componentInstanceNames.add(component.instanceName);
+            if (bean != null) {
+                this.types.add(bean);
+            }
+        }
+
+        private CtClass emit(CtClass ctClass) {
+            try {
+                this.classFiles.put(ctClass.getName(), ctClass.toBytecode());
+            } catch (IOException | CannotCompileException e) {
+                throw new IllegalStateException(String.format(GENERATION_FAILED_MSG, ctClass.getName()), e);
+            }
+            return ctClass;
+        }
+
+        private GeneratedComponents toGeneratedComponents(Path location) {
+            return new GeneratedComponents(location, new ArrayList<>(this.classFiles.keySet()), this.componentClassNames,
+                    this.componentInstanceNames);
+        }
+    }
+}
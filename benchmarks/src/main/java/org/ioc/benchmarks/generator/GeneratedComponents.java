@@ -0,0 +1,128 @@
+package org.ioc.benchmarks.generator;
+
+import org.ioc.configuration.Configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Class files written by {@link ComponentGraphGenerator} to a directory or a jar.
+ */
+public class GeneratedComponents {
+    private final Path location;
+    private final List<String> classNames;
+    private final List<String> componentClassNames;
+    private final List<String> instanceNames;
+
+    public GeneratedComponents(Path location, List<String> classNames, List<String> componentClassNames,
+                               List<String> instanceNames) {
+        this.location = location;
+        this.classNames = List.copyOf(classNames);
+        this.componentClassNames = List.copyOf(componentClassNames);
+        this.instanceNames = List.copyOf(instanceNames);
+    }
+
+    public Path getLocation() {
+        return this.location;
+    }
+
+    /**
+     * @return - The names of all generated classes: graph components, beans, interfaces and aspects.
+     */
+    public List<String> getClassNames() {
+        return this.classNames;
+    }
+
+    /**
+     * @return - The names of the components of the graph, in generation order.
+     */
+    public List<String> getComponentClassNames() {
+        return this.componentClassNames;
+    }
+
+    /**
+     * @return - The instance names of the components of the graph, in generation order.
+     */
+    public List<String> getInstanceNames() {
+        return this.instanceNames;
+    }
+
+    /**
+     * @return - The files to pass to {@link org.ioc.InitApplicationContext#run(File[], Configuration)}.
+     */
+    public File[] getFiles() {
+        return new File[]{this.location.toFile()};
+    }
+
+    /**
+     * @return - A new class loader for the generated classes, whose parent loads the container.
+     */
+    public ClassLoader createClassLoader() {
+        try {
+            return new URLClassLoader(
+                    new URL[]{this.location.toUri().toURL()},
+                    GeneratedComponents.class.getClassLoader()
+            );
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Loads every generated class with the given class loader.
+     *
+     * @param classLoader - A class loader returned by {@link #createClassLoader()}.
+     * @return - The generated classes.
+     */
+    public Set<Class<?>> loadClasses(ClassLoader classLoader) {
+        return new HashSet<>(this.loadClasses(this.classNames, classLoader));
+    }
+
+    /**
+     * Loads the components of the graph with the given class loader.
+     *
+     * @param classLoader - A class loader returned by {@link #createClassLoader()}.
+     * @return - The components, in generation order.
+     */
+    public List<Class<?>> loadComponentClasses(ClassLoader classLoader) {
+        return this.loadClasses(this.componentClassNames, classLoader);
+    }
+
+    private List<Class<?>> loadClasses(List<String> classNames, ClassLoader classLoader) {
+        final List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, true, classLoader));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * @return - A configuration that scans the generated classes with the given class loader.
+     */
+    public Configuration createConfiguration(ClassLoader classLoader) {
+        return new Configuration().scanning().setClassLoader(classLoader).and();
+    }
+
+    /**
+     * Deletes the generated directory or jar.
+     */
+    public void delete() {
+        try (Stream<Path> paths = Files.walk(this.location)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.ioc.benchmarks.generator;
+
+/**
+ * Presets of {@link ComponentGraphGenerator} used as a benchmark parameter.
+ */
+public enum GraphShape {
+    /**
+     * Components depending on two random components generated before them.
+     */
+    PLAIN {
+        @Override
+        public ComponentGraphGenerator configure(ComponentGraphGenerator generator) {
+            return generator.fanOut(2);
+        }
+    },
+
+    /**
+     * Twenty layers with a higher fan-out and a bounded fan-in, plus beans, qualifiers, collections and aspects in
+     * proportions close to a typical service application.
+     */
+    MIXED {
+        @Override
+        public ComponentGraphGenerator configure(ComponentGraphGenerator generator) {
+            return generator
+                    .fanOut(4)
+                    .maxFanIn(32)
+                    .depth(20)
+                    .beanRatio(0.2)
+                    .qualifierRatio(0.1)
+                    .collectionRatio(0.05)
+                    .aspects(3)
+                    .aspectRatio(0.05);
+        }
+    };
+
+    public abstract ComponentGraphGenerator configure(ComponentGraphGenerator generator);
+}
@@ -3,15 +3,16 @@ package org.ioc;
 import org.ioc.configuration.Configuration;
 import org.ioc.contex.ApplicationContext;
 import org.ioc.contex.ApplicationContextCached;
+import org.ioc.contex.enviroment.Environment;
 import org.ioc.engine.*;
 import org.ioc.engine.ClassLoaderContext;
 import org.ioc.engine.core.*;
-import org.ioc.stereotype.StartUp;
+import org.ioc.engine.event.ScanEvent;
+import org.ioc.engine.metrics.DefaultContainerMetrics;
 import org.ioc.type.DirectoryType;
 
 import java.io.File;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -40,21 +41,71 @@ public class InitApplicationContext {
     public static ApplicationContext run(Class<?> initApplicationContextClass, Configuration configuration) {
         final Directory directory = new DirectoryHandler().resolveDirectory(initApplicationContextClass);
         final File file = new File(directory.getDirectory());
-        final ApplicationContext applicationContext = run(new File[]{file}, configuration);
-        runStartUpMethod(initApplicationContextClass, applicationContext);
+        final StartupReport startupReport = new StartupReport();
+        final ApplicationContext applicationContext = run(new File[]{file}, configuration, null, startupReport);
+        final long startUpMethodStart = System.nanoTime();
+        new StartUpComponent(applicationContext, configuration.general().getStartUpExecutor()).runStartUpMethods();
+        startupReport.recordPhase(StartupReport.Phase.STARTUP_METHODS, System.nanoTime() - startUpMethodStart);
+        writeStartupReport(configuration, startupReport);
         return applicationContext;
     }
 
     public static ApplicationContext run(File[] files, Configuration configuration) {
-        SettingComponent scanningComponent = new LoaderComponent(configuration.scanning());
+        return run(files, configuration, (ApplicationContext) null);
+    }
+
+    /**
+     * Creates a child context, e.g. one per tenant, on top of a parent context holding the shared components. The
+     * classes already located by the parent are not instantiated again: the child only holds its own components, their
+     * dependencies are satisfied with the components of the parent when the child has none, and lookups the child
+     * cannot answer go to the parent.
+     *
+     * @param files         - The directories and jars to scan.
+     * @param configuration - The configuration of the child context.
+     * @param parent        - The parent context, null to create a root context.
+     * @return - The child context.
+     */
+    public static ApplicationContext run(File[] files, Configuration configuration, ApplicationContext parent) {
+        final StartupReport startupReport = new StartupReport();
+        final ApplicationContext applicationContext = run(files, configuration, parent, startupReport);
+        writeStartupReport(configuration, startupReport);
+        return applicationContext;
+    }
+
+    /**
+     * Scans the given files and instantiates their components, recording the time of every phase in the report.
+     */
+    private static ApplicationContext run(File[] files, Configuration configuration, ApplicationContext parent, StartupReport startupReport) {
+        // Read once, for the conditions of the components and for the values injected into them.
+        final Environment environment = Environment.load(
+                configuration.instantiations().getPropertySources(), configuration.scanning().getClassLoader());
+        final List<ComponentModel> parentComponents = getParentComponents(parent);
+        final LoaderComponent scanningComponent = new LoaderComponent(
+                configuration.scanning(), startupReport, environment, parentComponents);
+        final DependencyResolveComponent dependencyResolveComponent = new DependencyResolveComponent(
+                configuration.instantiations(), parentComponents, environment
+        );
         InstantiateContext instantiationComponent = new InstantiationComponentBean(
-                new DependencyResolveComponent(configuration.instantiations())
+                configuration.instantiations(),
+                dependencyResolveComponent,
+                startupReport,
+                configuration.general().getMetrics()
         );
         final Set<Class<?>> locatedClasses = new HashSet<>();
         final List<ComponentModel> instantiatedComponents = new ArrayList<>();
 
         final Runnable runnable = () -> {
-            locatedClasses.addAll(getActiveClass(files));
+            final long scanStart = System.nanoTime();
+            final ScanEvent scanEvent = new ScanEvent();
+            scanEvent.begin();
+            locatedClasses.addAll(locateClasses(files, configuration, scanningComponent));
+            locatedClasses.removeAll(getParentClasses(parent));
+            if (scanEvent.shouldCommit()) {
+                scanEvent.locations = files.length;
+                scanEvent.classes = locatedClasses.size();
+                scanEvent.commit();
+            }
+            startupReport.recordPhase(StartupReport.Phase.SCAN, System.nanoTime() - scanStart);
             final Set<ComponentModel> allActiveComponents = new HashSet<>(scanningComponent.mappingComponent(locatedClasses));
             instantiatedComponents.addAll(new ArrayList<>(
                     instantiationComponent.instantiateComponentAndBean(allActiveComponents)
@@ -78,7 +129,73 @@ public class InitApplicationContext {
                 Thread.currentThread().setContextClassLoader(oldCl);
             }
         }
-        return new ApplicationContextCached(locatedClasses, instantiatedComponents);
+        if (configuration.general().isRegisterMetricsMBean() && configuration.general().getMetrics() instanceof DefaultContainerMetrics) {
+            ((DefaultContainerMetrics) configuration.general().getMetrics()).registerMBean();
+        }
+        final ApplicationContextCached applicationContext = new ApplicationContextCached(locatedClasses, instantiatedComponents,
+                startupReport, configuration.general().getMetrics(), dependencyResolveComponent.getDependencyGraph(), parent);
+        applicationContext.setShutdownTimeoutMillis(configuration.general().getShutdownTimeoutMillis());
+        applicationContext.setReloadExecutor(configuration.general().getReloadExecutor());
+        if (configuration.general().isRegisterShutdownHook()) {
+            applicationContext.registerShutdownHook();
+        }
+        return applicationContext;
+    }
+
+    /**
+     * @return - The components of the parent context and of its own parents, the closest first, without their beans
+     * which are reached through their root component.
+     */
+    private static List<ComponentModel> getParentComponents(ApplicationContext parent) {
+        final List<ComponentModel> parentComponents = new ArrayList<>();
+        for (ApplicationContext context = parent; context != null; context = context.getParent()) {
+            for (ComponentModel componentModel : context.getAllDefineBean()) {
+                if (!(componentModel instanceof ComponentBeanModel)) {
+                    parentComponents.add(componentModel);
+                }
+            }
+        }
+        return parentComponents;
+    }
+
+    /**
+     * @return - The classes located by the parent context and by its own parents.
+     */
+    private static Set<Class<?>> getParentClasses(ApplicationContext parent) {
+        final Set<Class<?>> parentClasses = new HashSet<>();
+        for (ApplicationContext context = parent; context != null; context = context.getParent()) {
+            parentClasses.addAll(context.getClassLoader());
+        }
+        return parentClasses;
+    }
+
+    private static void writeStartupReport(Configuration configuration, StartupReport startupReport) {
+        if (configuration.general().getStartupReportFile() != null) {
+            startupReport.writeJson(configuration.general().getStartupReportFile());
+        }
+    }
+
+    /**
+     * > It loads the component classes of the active profiles from their snapshot index when there is an up-to-date
+     * one, otherwise it scans the files and writes the index. Without index directory, it scans every class.
+     *
+     * @return - The located classes: every class of the files when they are scanned, only the component classes of
+     * the active profiles when they come from the index.
+     */
+    private static Set<Class<?>> locateClasses(File[] files, Configuration configuration, LoaderComponent loaderComponent) {
+        final Path snapshotIndexDirectory = configuration.scanning().getSnapshotIndexDirectory();
+        if (snapshotIndexDirectory == null) {
+            return getActiveClass(files);
+        }
+        final ComponentSnapshotIndex snapshotIndex = new ComponentSnapshotIndex(
+                snapshotIndexDirectory, loaderComponent.getActiveProfiles(), files);
+        final Set<Class<?>> indexedClasses = snapshotIndex.read();
+        if (indexedClasses != null) {
+            return indexedClasses;
+        }
+        final Set<Class<?>> locatedClasses = getActiveClass(files);
+        snapshotIndex.write(loaderComponent.getProfileComponentClasses(locatedClasses));
+        return locatedClasses;
     }
 
     private static Set<Class<?>> getActiveClass(File[] files) {
@@ -95,35 +212,4 @@ public class InitApplicationContext {
         }
         return allActiveClass;
     }
-
-    /**
-     * This method calls executes when all components are loaded.
-     * <p>
-     * Looks for instantiated component from the given type.
-     * <p>public
-     * If instance is found, looks for void method with 0 params
-     * and with @StartUp annotation and executes it.
-     *
-     * @param startupClass any class from the client side.
-     */
-    private static void runStartUpMethod(Class<?> startupClass, ApplicationContext applicationContext) {
-        final ComponentModel componentModel = applicationContext.getDefineBean(startupClass, null);
-        if (componentModel != null) {
-            for (Method declaredMethod : componentModel.getComponentType().getDeclaredMethods()) {
-                boolean isStartUpMethod = (declaredMethod.getReturnType() != void.class && declaredMethod.getReturnType() != Void.class)
-                        || !declaredMethod.isAnnotationPresent(StartUp.class);
-                if (!isStartUpMethod) {
-                    declaredMethod.setAccessible(true);
-                    final Object[] params = Arrays.stream(declaredMethod.getParameterTypes())
-                            .map(applicationContext::getBean)
-                            .toArray(Object[]::new);
-                    try {
-                        declaredMethod.invoke(componentModel.getActualInstance(), params);
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
-        }
-    }
 }
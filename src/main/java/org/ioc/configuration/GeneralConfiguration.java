@@ -1,9 +1,27 @@
 package org.ioc.configuration;
 
+import org.ioc.support.ContainerMetrics;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+
 public class GeneralConfiguration extends CoreConfiguration{
 
     private boolean runInNewThread;
 
+    private Path startupReportFile;
+
+    private ContainerMetrics metrics = ContainerMetrics.NOOP;
+
+    private boolean registerMetricsMBean;
+
+    private boolean registerShutdownHook;
+
+    private long shutdownTimeoutMillis = 30_000L;
+
+    private Executor startUpExecutor;
+    private Executor reloadExecutor;
+
     public GeneralConfiguration(Configuration parentConfig) {
         super(parentConfig);
     }
@@ -16,4 +34,113 @@ public class GeneralConfiguration extends CoreConfiguration{
     public boolean isRunInNewThread() {
         return this.runInNewThread;
     }
+
+    /**
+     * Writes the {@link org.ioc.engine.StartupReport} of the context as JSON to the given file once the context has
+     * started.
+     *
+     * @param startupReportFile - The file to write, null to not write the report.
+     * @return - This configuration.
+     */
+    public GeneralConfiguration startupReportFile(Path startupReportFile) {
+        this.startupReportFile = startupReportFile;
+        return this;
+    }
+
+    public Path getStartupReportFile() {
+        return this.startupReportFile;
+    }
+
+    /**
+     * Records the bean lookups, instance creations and proxy calls of the context, e.g. in a
+     * {@link org.ioc.engine.metrics.DefaultContainerMetrics}. Nothing is recorded by default.
+     *
+     * @param metrics - The metrics of the context.
+     * @return - This configuration.
+     */
+    public GeneralConfiguration metrics(ContainerMetrics metrics) {
+        this.metrics = metrics == null ? ContainerMetrics.NOOP : metrics;
+        return this;
+    }
+
+    public ContainerMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server once the context has started, if they are a
+     * {@link org.ioc.engine.metrics.DefaultContainerMetrics}.
+     *
+     * @param registerMetricsMBean - True to expose the metrics over JMX.
+     * @return - This configuration.
+     */
+    public GeneralConfiguration registerMetricsMBean(boolean registerMetricsMBean) {
+        this.registerMetricsMBean = registerMetricsMBean;
+        return this;
+    }
+
+    public boolean isRegisterMetricsMBean() {
+        return this.registerMetricsMBean;
+    }
+
+    /**
+     * Closes the context when the JVM shuts down, see {@link org.ioc.contex.ApplicationContext#close()}.
+     *
+     * @param registerShutdownHook - True to register a shutdown hook.
+     * @return - This configuration.
+     */
+    public GeneralConfiguration registerShutdownHook(boolean registerShutdownHook) {
+        this.registerShutdownHook = registerShutdownHook;
+        return this;
+    }
+
+    public boolean isRegisterShutdownHook() {
+        return this.registerShutdownHook;
+    }
+
+    /**
+     * @param shutdownTimeoutMillis - Max time given to the {@link org.ioc.stereotype.PreDestroy} method of each
+     *                              component when the context is closed.
+     * @return - This configuration.
+     */
+    public GeneralConfiguration shutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        return this;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return this.shutdownTimeoutMillis;
+    }
+
+    /**
+     * Runs the {@link org.ioc.stereotype.StartUp} methods of the same phase on the given executor. By default, the
+     * container runs them on its own daemon threads.
+     *
+     * @param startUpExecutor - The executor, left running by the container.
+     * @return - This configuration.
+     */
+    public GeneralConfiguration startUpExecutor(Executor startUpExecutor) {
+        this.startUpExecutor = startUpExecutor;
+        return this;
+    }
+
+    public Executor getStartUpExecutor() {
+        return this.startUpExecutor;
+    }
+
+    /**
+     * Creates the new instances of a reload, independent components in parallel, on the given executor. By default,
+     * the context runs them on its own daemon threads, shared by all its reloads.
+     *
+     * @param reloadExecutor - The executor, left running by the container.
+     * @return - This configuration.
+     */
+    public GeneralConfiguration reloadExecutor(Executor reloadExecutor) {
+        this.reloadExecutor = reloadExecutor;
+        return this;
+    }
+
+    public Executor getReloadExecutor() {
+        return this.reloadExecutor;
+    }
 }
@@ -2,21 +2,32 @@ package org.ioc.configuration;
 
 
 import org.ioc.engine.ComponentModel;
+import org.ioc.engine.ScopeType;
+import org.ioc.engine.ThreadComponentScope;
+import org.ioc.support.ComponentScope;
 import org.ioc.support.DependencyResolver;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class InstantiationConfiguration extends CoreConfiguration {
     private final Collection<ComponentModel> providedComponentModels;
     private final Set<DependencyResolver> dependencyResolvers;
+    private final Map<String, ComponentScope> componentScopes;
+    private final List<Path> propertySources;
+    private final AtomicInteger nextScopeIndex;
+    private Executor postConstructExecutor;
 
     public InstantiationConfiguration(Configuration parentConfig) {
         super(parentConfig);
         this.providedComponentModels = new ArrayList<>();
         this.dependencyResolvers = new HashSet<>();
+        this.componentScopes = new HashMap<>();
+        this.propertySources = new ArrayList<>();
+        this.nextScopeIndex = new AtomicInteger();
+        this.componentScopes.put(ScopeType.THREAD_SCOPE_NAME, new ThreadComponentScope());
     }
 
     public InstantiationConfiguration addProvidedComponents(Collection<ComponentModel> serviceDetails) {
@@ -29,6 +40,48 @@ public class InstantiationConfiguration extends CoreConfiguration {
         return this;
     }
 
+    /**
+     * Registers a scope for the components declaring its name. The slots of the scoped components in
+     * {@link org.ioc.engine.ScopedInstances} are given by this configuration, so a scope must not be registered in
+     * another configuration too.
+     *
+     * @param scopeName      - The name of the scope.
+     * @param componentScope - The scope.
+     * @return - This configuration.
+     */
+    public InstantiationConfiguration addComponentScope(String scopeName, ComponentScope componentScope) {
+        this.componentScopes.put(scopeName, componentScope);
+        return this;
+    }
+
+    /**
+     * Reads the properties of the {@link org.ioc.contex.enviroment.Environment} from the given file too, over the
+     * {@code application.properties} and {@code application.yml} of the class path and the files added before.
+     *
+     * @param propertySource - A {@code .properties}, {@code .yml} or {@code .yaml} file.
+     * @return - This configuration.
+     */
+    public InstantiationConfiguration addPropertySource(Path propertySource) {
+        this.propertySources.add(propertySource);
+        return this;
+    }
+
+    /**
+     * Runs the {@link org.ioc.stereotype.PostConstruct} methods with {@code async = true} on the given executor. By
+     * default, the container runs them on its own daemon threads.
+     *
+     * @param postConstructExecutor - The executor, left running by the container.
+     * @return - This configuration.
+     */
+    public InstantiationConfiguration postConstructExecutor(Executor postConstructExecutor) {
+        this.postConstructExecutor = postConstructExecutor;
+        return this;
+    }
+
+    public Executor getPostConstructExecutor() {
+        return this.postConstructExecutor;
+    }
+
     public Collection<ComponentModel> getProvidedComponentModels() {
         return this.providedComponentModels;
     }
@@ -36,4 +89,20 @@ public class InstantiationConfiguration extends CoreConfiguration {
     public Set<DependencyResolver> getDependencyResolvers() {
         return this.dependencyResolvers;
     }
+
+    public List<Path> getPropertySources() {
+        return this.propertySources;
+    }
+
+    /**
+     * @return - A new slot index in {@link org.ioc.engine.ScopedInstances} for a scoped component of this
+     * configuration, so that the instances of a scope only hold slots for the components of its own context.
+     */
+    public int nextScopeIndex() {
+        return this.nextScopeIndex.getAndIncrement();
+    }
+
+    public Map<String, ComponentScope> getComponentScopes() {
+        return this.componentScopes;
+    }
 }
@@ -3,6 +3,7 @@ package org.ioc.configuration;
 import org.ioc.engine.ComponentDetailsCreated;
 
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
 import java.util.*;
 
 public class ScanningConfiguration extends CoreConfiguration{
@@ -10,7 +11,9 @@ public class ScanningConfiguration extends CoreConfiguration{
     private final Set<Class<? extends Annotation>> beanAnnotations;
     private final Set<ComponentDetailsCreated> componentDetailsCreateds;
     private final Map<Class<?>, Class<? extends Annotation>> additionalClasses;
+    private final Set<String> activeProfiles;
     private ClassLoader classLoader;
+    private Path snapshotIndexDirectory;
 
     public ScanningConfiguration(Configuration configuration) {
         super(configuration);
@@ -19,6 +22,7 @@ public class ScanningConfiguration extends CoreConfiguration{
         this.beanAnnotations = new HashSet<>();
         this.classLoader = Thread.currentThread().getContextClassLoader();
         this.componentDetailsCreateds = new HashSet<>();
+        this.activeProfiles = new LinkedHashSet<>();
     }
 
     public ScanningConfiguration addComponentAnnotation(Class<? extends Annotation> annotation) {
@@ -53,6 +57,61 @@ public class ScanningConfiguration extends CoreConfiguration{
         return classLoader;
     }
 
+    /**
+     * Sets the class loader used to load the scanned classes, e.g. to scan a directory or jar that is not on the
+     * classpath of the application.
+     *
+     * @param classLoader - The class loader that can load the scanned classes.
+     * @return - This configuration.
+     */
+    public ScanningConfiguration setClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    /**
+     * Registers only the components of the given profiles, and the ones without {@link org.ioc.stereotype.Profile}.
+     * Without active profiles, they are read from the property {@code ioc.profiles.active}, comma separated, e.g. the
+     * environment variable {@code IOC_PROFILES_ACTIVE}, and otherwise the {@code default} profile is active.
+     *
+     * @param profiles - The active profiles.
+     * @return - This configuration.
+     */
+    public ScanningConfiguration activeProfiles(String... profiles) {
+        for (String profile : profiles) {
+            if (!profile.isBlank()) {
+                this.activeProfiles.add(profile.trim());
+            }
+        }
+        return this;
+    }
+
+    public Set<String> getActiveProfiles() {
+        return this.activeProfiles;
+    }
+
+    /**
+     * Keeps a snapshot index of the component classes of each set of active profiles in the given directory. When the
+     * index of the active profiles exists and the scanned locations did not change since it was written, only the
+     * classes it lists are loaded instead of scanning every class, so the located classes of the context are only
+     * these component classes; otherwise the locations are scanned and the index written.
+     * <p>
+     * A jar is unchanged while it keeps its size and modification time, and a directory while none of its
+     * subdirectories is modified, i.e. no class is added, removed or renamed. A class recompiled in place in a
+     * directory is not detected: delete the index after changing the annotations of a class in a directory.
+     *
+     * @param snapshotIndexDirectory - The directory of the index files, null to always scan.
+     * @return - This configuration.
+     */
+    public ScanningConfiguration snapshotIndexDirectory(Path snapshotIndexDirectory) {
+        this.snapshotIndexDirectory = snapshotIndexDirectory;
+        return this;
+    }
+
+    public Path getSnapshotIndexDirectory() {
+        return this.snapshotIndexDirectory;
+    }
+
     public Set<ComponentDetailsCreated> getComponentDetailsCreatedCallbacks() {
         return this.componentDetailsCreateds;
     }
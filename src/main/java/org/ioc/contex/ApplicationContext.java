@@ -1,16 +1,29 @@
 package org.ioc.contex;
 
 import org.ioc.engine.ComponentModel;
+import org.ioc.engine.DependencyGraph;
+import org.ioc.engine.StartupReport;
 import org.ioc.contex.enviroment.EnvironmentSource;
 import org.ioc.contex.factory.ListableBeanFactory;
+import org.ioc.support.ContainerMetrics;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
-public interface ApplicationContext extends EnvironmentSource , ListableBeanFactory {
+public interface ApplicationContext extends EnvironmentSource , ListableBeanFactory, AutoCloseable {
     ComponentModel getDefineBean(Class<?> cls);
     ComponentModel getDefineBean(Class<?> cls, String beanName);
     Collection<ComponentModel> getImplementations(Class<?> cls);
     Collection<ComponentModel> getDefineBeansWithAnnotation(Class<? extends Annotation> annotation);
     Collection<ComponentModel> getAllDefineBean();
+    StartupReport getStartupReport();
+    ContainerMetrics getMetrics();
+    DependencyGraph getDependencyGraph();
+    ApplicationContext getParent();
+    CompletableFuture<Void> getReadiness();
+    void registerShutdownHook();
+    boolean isClosed();
+    @Override
+    void close();
 }
@@ -1,44 +1,114 @@
 package org.ioc.contex;
 
 import org.ioc.engine.ComponentModel;
+import org.ioc.engine.DependencyGraph;
+import org.ioc.engine.StartupReport;
 import org.ioc.contex.factory.ApplicationContextInternal;
+import org.ioc.support.ContainerMetrics;
 
-import java.lang.annotation.Annotation;
 import java.util.*;
-//TODO: implement getComponentByAnnotation
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 public class ApplicationContextCached extends ApplicationContextInternal {
-    private final Map<Class<?>, ComponentModel> cachedComponents;
-    private final Map<Class<?>, Collection<ComponentModel>> cachedImplementations;
-    private final Map<Class<? extends Annotation>, Collection<ComponentModel>> cachedComponentsByAnnotation;
+    /**
+     * Max number of types whose implementations are cached. Lookups of other types are answered without caching, so
+     * processes looking up many dynamic types do not grow the cache forever.
+     */
+    private static final int MAX_CACHED_IMPLEMENTATIONS = 1024;
+    /**
+     * The component of every type looked up without a name. A {@link ClassValue} is stored on the class itself, so a
+     * lookup is a lock-free read that does not allocate once the slot of the type is computed. It is replaced as a
+     * whole when the instances of the context change.
+     */
+    private volatile ClassValue<TypeSlot> typeSlots = this.createTypeSlots();
+    private final ConcurrentMap<Class<?>, Collection<ComponentModel>> cachedImplementations;
 
     public ApplicationContextCached(Set<Class<?>> localClasses, List<ComponentModel> components) {
-        this.cachedComponents = new HashMap<>();
-        this.cachedImplementations = new HashMap<>();
-        this.cachedComponentsByAnnotation = new HashMap<>();
-        super.init(localClasses, components);
+        this(localClasses, components, new StartupReport());
     }
 
+    public ApplicationContextCached(Set<Class<?>> localClasses, List<ComponentModel> components, StartupReport startupReport) {
+        this(localClasses, components, startupReport, ContainerMetrics.NOOP);
+    }
+
+    public ApplicationContextCached(Set<Class<?>> localClasses, List<ComponentModel> components,
+                                    StartupReport startupReport, ContainerMetrics containerMetrics) {
+        this(localClasses, components, startupReport, containerMetrics, new DependencyGraph());
+    }
+
+    public ApplicationContextCached(Set<Class<?>> localClasses, List<ComponentModel> components,
+                                    StartupReport startupReport, ContainerMetrics containerMetrics,
+                                    DependencyGraph dependencyGraph) {
+        this(localClasses, components, startupReport, containerMetrics, dependencyGraph, null);
+    }
+
+    public ApplicationContextCached(Set<Class<?>> localClasses, List<ComponentModel> components,
+                                    StartupReport startupReport, ContainerMetrics containerMetrics,
+                                    DependencyGraph dependencyGraph, ApplicationContext parent) {
+        this.cachedImplementations = new ConcurrentHashMap<>();
+        super.init(localClasses, components, startupReport, containerMetrics, dependencyGraph, parent);
+    }
+
+    /**
+     * > Lookups without a name, which include {@link #getBean(Class)} and {@link #getDefineBean(Class)}, are answered
+     * from the slot of the type. Named lookups go through the components.
+     *
+     * @param componentType - The type of the bean to retrieve.
+     * @param instanceName  - The name of the bean to retrieve.
+     * @return - A component model
+     */
     @Override
-    public ComponentModel getDefineBean(Class<?> componentType) {
-        if (this.cachedComponents.containsKey(componentType)) {
-            return this.cachedComponents.get(componentType);
-        } else {
-            final ComponentModel componentModel = super.getDefineBean(componentType);
-            if (componentModel != null) {
-                this.cachedComponents.put(componentType, componentModel);
-            }
-            return componentModel;
+    public ComponentModel getDefineBean(Class<?> componentType, String instanceName) {
+        if (instanceName == null) {
+            return this.typeSlots.get(componentType).componentModel;
         }
+        return super.getDefineBean(componentType, instanceName);
+    }
+
+    /**
+     * Components are also matched on the class of their instance, so the cached lookups are dropped whenever an
+     * instance is replaced.
+     */
+    @Override
+    protected void invalidateCaches() {
+        this.typeSlots = this.createTypeSlots();
+        this.cachedImplementations.clear();
     }
 
+    /**
+     * @param cls The class to search for implementations of.
+     * @return An immutable list of the components assignable to the class, cached for up to
+     * {@link #MAX_CACHED_IMPLEMENTATIONS} classes.
+     */
     @Override
     public Collection<ComponentModel> getImplementations(Class<?> cls) {
-        if (this.cachedImplementations.containsKey(cls)) {
-            return this.cachedImplementations.get(cls);
-        } else {
-            final Collection<ComponentModel> implementations = super.getImplementations(cls);
-            this.cachedImplementations.put(cls, implementations);
-            return implementations;
+        final Collection<ComponentModel> cachedImplementations = this.cachedImplementations.get(cls);
+        if (cachedImplementations != null) {
+            return cachedImplementations;
+        }
+        if (this.cachedImplementations.size() >= MAX_CACHED_IMPLEMENTATIONS) {
+            return super.getImplementations(cls);
+        }
+        return this.cachedImplementations.computeIfAbsent(cls, super::getImplementations);
+    }
+
+    private ClassValue<TypeSlot> createTypeSlots() {
+        return new ClassValue<>() {
+            @Override
+            protected TypeSlot computeValue(Class<?> type) {
+                return new TypeSlot(ApplicationContextCached.super.getDefineBean(type, null));
+            }
+        };
+    }
+
+    /**
+     * The component found for a type, null if there is none, so that misses are cached as well.
+     */
+    private static final class TypeSlot {
+        private final ComponentModel componentModel;
+
+        private TypeSlot(ComponentModel componentModel) {
+            this.componentModel = componentModel;
         }
     }
 }
@@ -0,0 +1,211 @@
+package org.ioc.contex.enviroment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Configuration properties of a context, read once from all the sources and flattened into one immutable map of
+ * dotted keys, e.g. {@code server.port}. Later sources override earlier ones:
+ * <ol>
+ *     <li>{@code application.properties}, then {@code application.yml} or {@code application.yaml}, on the class path.</li>
+ *     <li>The files added with {@code configuration.instantiations().addPropertySource(path)}, in order.</li>
+ *     <li>The environment variables, also under their relaxed name: {@code SERVER_PORT} is {@code server.port}.</li>
+ *     <li>The system properties.</li>
+ * </ol>
+ */
+public final class Environment {
+    private static final String UNRESOLVABLE_PLACEHOLDER_FORMAT = "Could not resolve placeholder '%s' in '%s'.";
+    private static final String CIRCULAR_PLACEHOLDER_FORMAT = "Circular placeholder '%s' in '%s'.";
+    private static final String[] CLASS_PATH_SOURCES = {"application.properties", "application.yml", "application.yaml"};
+    private static final String PLACEHOLDER_PREFIX = "${";
+    private static final String PLACEHOLDER_SUFFIX = "}";
+    private static final char DEFAULT_SEPARATOR = ':';
+
+    private final Map<String, String> properties;
+
+    public Environment(Map<String, String> properties) {
+        this.properties = Map.copyOf(properties);
+    }
+
+    /**
+     * > It reads every source, class path sources from the given class loader, and flattens them into one environment.
+     *
+     * @param propertySources - The property files, {@code .properties} or {@code .yml}/{@code .yaml}.
+     * @param classLoader     - The class loader of the application.
+     * @return - The environment.
+     */
+    public static Environment load(List<Path> propertySources, ClassLoader classLoader) {
+        final Map<String, String> properties = new HashMap<>();
+        for (String classPathSource : CLASS_PATH_SOURCES) {
+            final URL resource = classLoader == null ? null : classLoader.getResource(classPathSource);
+            if (resource != null) {
+                try (InputStream inputStream = resource.openStream()) {
+                    PropertySourceReader.read(classPathSource, inputStream, properties);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        for (Path propertySource : propertySources) {
+            try (InputStream inputStream = Files.newInputStream(propertySource)) {
+                PropertySourceReader.read(propertySource.getFileName().toString(), inputStream, properties);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        System.getenv().forEach((name, value) -> {
+            properties.put(getRelaxedName(name), value);
+            properties.put(name, value);
+        });
+        System.getProperties().stringPropertyNames().forEach(name -> properties.put(name, System.getProperty(name)));
+        return new Environment(properties);
+    }
+
+    /**
+     * @return - The raw value of the property, placeholders not resolved, or null.
+     */
+    public String getProperty(String key) {
+        return this.properties.get(key);
+    }
+
+    public Map<String, String> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * > It replaces every {@code ${key:default}} in the text by the value of the property, or by the default if there
+     * is no such property. Values and defaults may contain placeholders themselves.
+     *
+     * @param text - The text with placeholders.
+     * @return - The resolved text, or null if a placeholder without default has no value.
+     * @throws IllegalArgumentException - if placeholders refer to each other.
+     */
+    public String resolvePlaceholders(String text) {
+        return this.resolvePlaceholders(text, new ArrayDeque<>());
+    }
+
+    /**
+     * > Same as {@link #resolvePlaceholders(String)}, for a value that must be there.
+     *
+     * @throws IllegalArgumentException - if a placeholder has no value and no default.
+     */
+    public String resolveRequiredPlaceholders(String text) {
+        final String resolved = this.resolvePlaceholders(text);
+        if (resolved == null) {
+            throw new IllegalArgumentException(String.format(UNRESOLVABLE_PLACEHOLDER_FORMAT, this.getMissingKey(text), text));
+        }
+        return resolved;
+    }
+
+    private String resolvePlaceholders(String text, Deque<String> visitedKeys) {
+        int start = text.indexOf(PLACEHOLDER_PREFIX);
+        if (start < 0) {
+            return text;
+        }
+        final StringBuilder resolved = new StringBuilder(text.length());
+        int position = 0;
+        while (start >= 0) {
+            final int end = findPlaceholderEnd(text, start);
+            if (end < 0) {
+                break;
+            }
+            resolved.append(text, position, start);
+            final String placeholder = text.substring(start + PLACEHOLDER_PREFIX.length(), end);
+            final String value = this.resolvePlaceholder(placeholder, text, visitedKeys);
+            if (value == null) {
+                return null;
+            }
+            resolved.append(value);
+            position = end + PLACEHOLDER_SUFFIX.length();
+            start = text.indexOf(PLACEHOLDER_PREFIX, position);
+        }
+        return resolved.append(text, position, text.length()).toString();
+    }
+
+    private String resolvePlaceholder(String placeholder, String text, Deque<String> visitedKeys) {
+        final int separator = findDefaultSeparator(placeholder);
+        final String key = separator < 0 ? placeholder : placeholder.substring(0, separator);
+        if (visitedKeys.contains(key)) {
+            throw new IllegalArgumentException(String.format(CIRCULAR_PLACEHOLDER_FORMAT, key, text));
+        }
+        final String value = this.properties.get(key);
+        if (value != null) {
+            visitedKeys.push(key);
+            try {
+                return this.resolvePlaceholders(value, visitedKeys);
+            } finally {
+                visitedKeys.pop();
+            }
+        }
+        return separator < 0 ? null : this.resolvePlaceholders(placeholder.substring(separator + 1), visitedKeys);
+    }
+
+    /**
+     * @return - The key of the first placeholder of the text that has no value and no default.
+     */
+    private String getMissingKey(String text) {
+        int start = text.indexOf(PLACEHOLDER_PREFIX);
+        while (start >= 0) {
+            final int end = findPlaceholderEnd(text, start);
+            if (end < 0) {
+                break;
+            }
+            final String placeholder = text.substring(start + PLACEHOLDER_PREFIX.length(), end);
+            if (this.resolvePlaceholders(PLACEHOLDER_PREFIX + placeholder + PLACEHOLDER_SUFFIX) == null) {
+                final int separator = findDefaultSeparator(placeholder);
+                return separator < 0 ? placeholder : this.getMissingKey(placeholder.substring(separator + 1));
+            }
+            start = text.indexOf(PLACEHOLDER_PREFIX, end);
+        }
+        return text;
+    }
+
+    /**
+     * @return - The index of the suffix closing the placeholder starting at the given index, nested ones skipped.
+     */
+    private static int findPlaceholderEnd(String text, int start) {
+        int depth = 0;
+        for (int i = start + PLACEHOLDER_PREFIX.length(); i < text.length(); i++) {
+            if (text.startsWith(PLACEHOLDER_PREFIX, i)) {
+                depth++;
+                i += PLACEHOLDER_PREFIX.length() - 1;
+            } else if (text.startsWith(PLACEHOLDER_SUFFIX, i)) {
+                if (depth == 0) {
+                    return i;
+                }
+                depth--;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return - The index of the separator of the default value, outside nested placeholders, or -1.
+     */
+    private static int findDefaultSeparator(String placeholder) {
+        int depth = 0;
+        for (int i = 0; i < placeholder.length(); i++) {
+            if (placeholder.startsWith(PLACEHOLDER_PREFIX, i)) {
+                depth++;
+                i++;
+            } else if (placeholder.startsWith(PLACEHOLDER_SUFFIX, i)) {
+                depth--;
+            } else if (placeholder.charAt(i) == DEFAULT_SEPARATOR && depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return - The name of an environment variable as a property key, e.g. {@code server.port} for {@code SERVER_PORT}.
+     */
+    private static String getRelaxedName(String name) {
+        return name.toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+}
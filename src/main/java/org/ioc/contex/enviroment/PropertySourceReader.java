@@ -0,0 +1,168 @@
+package org.ioc.contex.enviroment;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Reads a {@code .properties} or {@code .yml}/{@code .yaml} source into flat dotted keys.
+ * <p>
+ * Only the YAML needed for configuration is supported: nested maps by indentation, scalars, quoted strings, comments,
+ * and lists, block or inline, whose items are maps or scalars. List items get indexed keys, {@code servers[0]}, and
+ * lists of scalars are also joined with commas under their own key, so that they can be converted to arrays and
+ * collections.
+ */
+final class PropertySourceReader {
+    private static final String INVALID_YAML_FORMAT = "Invalid YAML in '%s' at line %d: %s";
+    private static final String DOCUMENT_SEPARATOR = "---";
+
+    private PropertySourceReader() {
+    }
+
+    /**
+     * > It reads the source by the extension of its name, every property overriding the one already there.
+     *
+     * @param name        - The name of the source.
+     * @param inputStream - The content of the source.
+     * @param properties  - The properties to add to.
+     */
+    static void read(String name, InputStream inputStream, Map<String, String> properties) throws IOException {
+        if (name.endsWith(".yml") || name.endsWith(".yaml")) {
+            readYaml(name, new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), properties);
+        } else {
+            final Properties source = new Properties();
+            source.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            source.stringPropertyNames().forEach(key -> properties.put(key, source.getProperty(key)));
+        }
+    }
+
+    private static void readYaml(String name, BufferedReader reader, Map<String, String> properties) throws IOException {
+        final Deque<Level> levels = new ArrayDeque<>();
+        final Map<String, List<String>> scalarLists = new LinkedHashMap<>();
+        final Map<String, Integer> listSizes = new HashMap<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            final String content = stripComment(line);
+            if (content.isBlank() || content.equals(DOCUMENT_SEPARATOR)) {
+                continue;
+            }
+            int indent = getIndent(content);
+            String entry = content.trim();
+            final boolean listItem = entry.startsWith("- ") || entry.equals("-");
+            // List items may be indented as much as their key.
+            while (!levels.isEmpty() && (levels.peek().indent > indent || !listItem && levels.peek().indent == indent)) {
+                levels.pop();
+            }
+            final String parentKey = levels.isEmpty() ? "" : levels.peek().key;
+            if (listItem) {
+                if (parentKey.isEmpty()) {
+                    throw new IOException(String.format(INVALID_YAML_FORMAT, name, lineNumber, "list item without key"));
+                }
+                final int index = listSizes.merge(parentKey, 1, Integer::sum) - 1;
+                final String itemKey = parentKey + "[" + index + "]";
+                entry = entry.substring(1).trim();
+                // The item is a level of its own, its map entries are indented past the dash.
+                indent = indent + 1;
+                levels.push(new Level(indent, itemKey));
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                if (findKeySeparator(entry) < 0) {
+                    properties.put(itemKey, unquote(entry));
+                    scalarLists.computeIfAbsent(parentKey, key -> new ArrayList<>()).add(unquote(entry));
+                    continue;
+                }
+                indent = indent + 1;
+            }
+            final int separator = findKeySeparator(entry);
+            if (separator < 0) {
+                throw new IOException(String.format(INVALID_YAML_FORMAT, name, lineNumber, entry));
+            }
+            final String parent = levels.isEmpty() ? "" : levels.peek().key;
+            final String key = (parent.isEmpty() ? "" : parent + ".") + unquote(entry.substring(0, separator).trim());
+            final String value = entry.substring(separator + 1).trim();
+            if (value.isEmpty()) {
+                levels.push(new Level(indent, key));
+            } else if (value.startsWith("[") && value.endsWith("]")) {
+                final List<String> items = new ArrayList<>();
+                for (String item : value.substring(1, value.length() - 1).split(",")) {
+                    if (!item.isBlank()) {
+                        items.add(unquote(item.trim()));
+                    }
+                }
+                for (int i = 0; i < items.size(); i++) {
+                    properties.put(key + "[" + i + "]", items.get(i));
+                }
+                scalarLists.put(key, items);
+            } else {
+                properties.put(key, unquote(value));
+            }
+        }
+        scalarLists.forEach((key, items) -> properties.put(key, String.join(",", items)));
+    }
+
+    /**
+     * @return - The index of the colon ending the key of a map entry, or -1 if the entry is a scalar.
+     */
+    private static int findKeySeparator(String entry) {
+        char quote = 0;
+        for (int i = 0; i < entry.length(); i++) {
+            final char c = entry.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == ':' && (i + 1 == entry.length() || entry.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String stripComment(String line) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#' && (i == 0 || Character.isWhitespace(line.charAt(i - 1)))) {
+                return line.substring(0, i);
+            }
+        }
+        return line;
+    }
+
+    private static int getIndent(String line) {
+        int indent = 0;
+        while (indent < line.length() && line.charAt(indent) == ' ') {
+            indent++;
+        }
+        return indent;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.charAt(0) == '"' || value.charAt(0) == '\'')
+                && value.charAt(value.length() - 1) == value.charAt(0)) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static final class Level {
+        private final int indent;
+        private final String key;
+
+        private Level(int indent, String key) {
+            this.indent = indent;
+            this.key = key;
+        }
+    }
+}
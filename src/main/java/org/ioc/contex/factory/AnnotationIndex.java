@@ -0,0 +1,100 @@
+package org.ioc.contex.factory;
+
+import org.ioc.engine.ComponentBeanModel;
+import org.ioc.engine.ComponentModel;
+import org.ioc.stereotype.AliasFor;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+/**
+ * Immutable index of the components of a context by annotation, built once when the context is initialized.
+ * <p>
+ * A component is indexed under the annotation it was registered with, the annotations declared on its class, and,
+ * for each of them, their meta-annotations and the annotation they are an {@link AliasFor}. So a {@code @Service}
+ * is also found with {@code @Component}.
+ */
+final class AnnotationIndex {
+    private static final String JAVA_ANNOTATION_PACKAGE = "java.lang.annotation";
+
+    private final Map<Class<? extends Annotation>, Entry> entries;
+
+    AnnotationIndex(Collection<ComponentModel> componentModels) {
+        final Map<Class<? extends Annotation>, List<ComponentModel>> componentsByAnnotation = new HashMap<>();
+        for (ComponentModel componentModel : componentModels) {
+            for (Class<? extends Annotation> annotationType : getIndexedAnnotations(componentModel)) {
+                componentsByAnnotation.computeIfAbsent(annotationType, key -> new ArrayList<>()).add(componentModel);
+            }
+        }
+        final Map<Class<? extends Annotation>, Entry> entries = new HashMap<>();
+        componentsByAnnotation.forEach((annotationType, components) -> entries.put(annotationType, new Entry(components)));
+        this.entries = Map.copyOf(entries);
+    }
+
+    /**
+     * @return - The components with the given annotation, in the order of the context.
+     */
+    List<ComponentModel> getComponents(Class<? extends Annotation> annotation) {
+        final Entry entry = this.entries.get(annotation);
+        return entry == null ? List.of() : entry.componentModels;
+    }
+
+    /**
+     * @return - The simple names of the types of the components with the given annotation.
+     */
+    String[] getSimpleNames(Class<? extends Annotation> annotation) {
+        final Entry entry = this.entries.get(annotation);
+        return entry == null ? new String[0] : entry.simpleNames.clone();
+    }
+
+    /**
+     * @return - The lower case simple names of the types of the components with the given annotation.
+     */
+    String[] getBeanNames(Class<? extends Annotation> annotation) {
+        final Entry entry = this.entries.get(annotation);
+        return entry == null ? new String[0] : entry.beanNames;
+    }
+
+    private static Set<Class<? extends Annotation>> getIndexedAnnotations(ComponentModel componentModel) {
+        final Set<Class<? extends Annotation>> annotationTypes = new LinkedHashSet<>();
+        if (componentModel.getAnnotation() != null) {
+            addWithMetaAnnotations(componentModel.getAnnotation().annotationType(), annotationTypes);
+        }
+        if (!(componentModel instanceof ComponentBeanModel)) {
+            for (Annotation annotation : componentModel.getComponentType().getDeclaredAnnotations()) {
+                addWithMetaAnnotations(annotation.annotationType(), annotationTypes);
+            }
+        }
+        return annotationTypes;
+    }
+
+    private static void addWithMetaAnnotations(Class<? extends Annotation> annotationType, Set<Class<? extends Annotation>> annotationTypes) {
+        if (annotationType == AliasFor.class || annotationType.getPackageName().equals(JAVA_ANNOTATION_PACKAGE)
+                || !annotationTypes.add(annotationType)) {
+            return;
+        }
+        final AliasFor aliasFor = annotationType.getAnnotation(AliasFor.class);
+        if (aliasFor != null) {
+            addWithMetaAnnotations(aliasFor.value(), annotationTypes);
+        }
+        for (Annotation metaAnnotation : annotationType.getDeclaredAnnotations()) {
+            addWithMetaAnnotations(metaAnnotation.annotationType(), annotationTypes);
+        }
+    }
+
+    private static final class Entry {
+        private final List<ComponentModel> componentModels;
+        private final String[] simpleNames;
+        private final String[] beanNames;
+
+        private Entry(List<ComponentModel> componentModels) {
+            this.componentModels = List.copyOf(componentModels);
+            this.simpleNames = new String[componentModels.size()];
+            this.beanNames = new String[componentModels.size()];
+            for (int i = 0; i < componentModels.size(); i++) {
+                this.simpleNames[i] = componentModels.get(i).getComponentType().getSimpleName();
+                this.beanNames[i] = this.simpleNames[i].toLowerCase();
+            }
+        }
+    }
+}
@@ -2,22 +2,57 @@ package org.ioc.contex.factory;
 
 import org.ioc.engine.ComponentBeanModel;
 import org.ioc.engine.ComponentModel;
+import org.ioc.engine.ComponentPool;
+import org.ioc.engine.DependencyGraph;
+import org.ioc.engine.InstanceGenerations;
+import org.ioc.engine.StartupReport;
+import org.ioc.engine.event.ReloadEvent;
+import org.ioc.engine.event.SlowBeanLookupEvent;
 import org.ioc.contex.ApplicationContext;
 import org.ioc.contex.enviroment.EnvironmentSource;
+import org.ioc.engine.core.DestructionComponent;
 import org.ioc.engine.core.InstantiationComponentBean;
+import org.ioc.engine.core.ReloadComponent;
+import org.ioc.engine.metrics.DefaultContainerMetrics;
 import org.ioc.exception.AlreadyInitializedException;
 import org.ioc.exception.BeansException;
 import org.ioc.exception.NoSuchBeanDefinitionException;
+import org.ioc.support.ComponentScope;
+import org.ioc.support.ContainerMetrics;
 
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 public class ApplicationContextInternal implements EnvironmentSource, ApplicationContext {
     private static final String ALREADY_INITIALIZED_MSG = "Dependency container already initialized.";
     private static final String COMPONENT_NOT_FOUND_FORMAT = "Component \"%s\" was not found.";
+    private static final String COMPONENT_NOT_POOLED_FORMAT = "Component \"%s\" is not pooled.";
+    private static final String INSTANCE_NOT_BORROWED_FORMAT = "Instance of \"%s\" is not borrowed from this context.";
+    private static final String SCOPE_NOT_FOUND_FORMAT = "No component uses scope \"%s\".";
+    private static final String SHUTDOWN_HOOK_THREAD_NAME = "ioc-shutdown-hook";
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
     protected Set<Class<?>> allLocatedClasses;
     protected List<ComponentModel> componentsAndBean;
+    private Map<String, ComponentScope> componentScopes;
+    private StartupReport startupReport;
+    private ContainerMetrics containerMetrics;
+    private DependencyGraph dependencyGraph;
+    private AnnotationIndex annotationIndex;
+    private ApplicationContext parent;
+    private CompletableFuture<Void> readiness;
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+    private Thread shutdownHook;
+    private final Map<BorrowedInstance, ComponentPool> borrowedInstances = new ConcurrentHashMap<>();
+    private final Set<ApplicationContextInternal> children = ConcurrentHashMap.newKeySet();
+    private Executor reloadExecutor;
+    private ExecutorService ownReloadExecutor;
+    private final AtomicBoolean closed = new AtomicBoolean();
     private boolean isInit;
 
     // This is the constructor for the ApplicationContextInternal class. It sets the `isInit` flag to false.
@@ -34,11 +69,88 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
      * @param componentsAndBean - This is a collection of ComponentModel objects.
      */
     protected void init(Set<Class<?>> locatedClasses, List<ComponentModel> componentsAndBean) {
+        this.init(locatedClasses, componentsAndBean, new StartupReport());
+    }
+
+    /**
+     * > Same as {@link #init(Set, List)}, keeping the report of the startup that created the components.
+     *
+     * @param locatedClasses    - A collection of all the classes that were found in the classpath.
+     * @param componentsAndBean - This is a collection of ComponentModel objects.
+     * @param startupReport     - The timings of the startup.
+     */
+    protected void init(Set<Class<?>> locatedClasses, List<ComponentModel> componentsAndBean, StartupReport startupReport) {
+        this.init(locatedClasses, componentsAndBean, startupReport, ContainerMetrics.NOOP);
+    }
+
+    /**
+     * > Same as {@link #init(Set, List, StartupReport)}, recording the bean lookups of the context in the given metrics.
+     *
+     * @param locatedClasses    - A collection of all the classes that were found in the classpath.
+     * @param componentsAndBean - This is a collection of ComponentModel objects.
+     * @param startupReport     - The timings of the startup.
+     * @param containerMetrics  - The metrics the components were instantiated with.
+     */
+    protected void init(Set<Class<?>> locatedClasses, List<ComponentModel> componentsAndBean, StartupReport startupReport,
+                        ContainerMetrics containerMetrics) {
+        this.init(locatedClasses, componentsAndBean, startupReport, containerMetrics, new DependencyGraph());
+    }
+
+    /**
+     * > Same as {@link #init(Set, List, StartupReport, ContainerMetrics)}, keeping the dependency graph of the components.
+     *
+     * @param locatedClasses    - A collection of all the classes that were found in the classpath.
+     * @param componentsAndBean - This is a collection of ComponentModel objects.
+     * @param startupReport     - The timings of the startup.
+     * @param containerMetrics  - The metrics the components were instantiated with.
+     * @param dependencyGraph   - The graph built while resolving the components.
+     */
+    protected void init(Set<Class<?>> locatedClasses, List<ComponentModel> componentsAndBean, StartupReport startupReport,
+                        ContainerMetrics containerMetrics, DependencyGraph dependencyGraph) {
+        this.init(locatedClasses, componentsAndBean, startupReport, containerMetrics, dependencyGraph, null);
+    }
+
+    /**
+     * > Same as {@link #init(Set, List, StartupReport, ContainerMetrics, DependencyGraph)} for a child context, which
+     * only holds its own components and looks up the other ones in its parent.
+     *
+     * @param locatedClasses    - A collection of all the classes that were found in the classpath.
+     * @param componentsAndBean - This is a collection of ComponentModel objects.
+     * @param startupReport     - The timings of the startup.
+     * @param containerMetrics  - The metrics the components were instantiated with.
+     * @param dependencyGraph   - The graph built while resolving the components.
+     * @param parent            - The parent context, null for a root context.
+     */
+    protected void init(Set<Class<?>> locatedClasses, List<ComponentModel> componentsAndBean, StartupReport startupReport,
+                        ContainerMetrics containerMetrics, DependencyGraph dependencyGraph, ApplicationContext parent) {
         if (this.isInit) {
             throw new AlreadyInitializedException(ALREADY_INITIALIZED_MSG);
         } else {
             this.allLocatedClasses = locatedClasses;
             this.componentsAndBean = componentsAndBean;
+            this.startupReport = startupReport;
+            this.containerMetrics = containerMetrics;
+            this.dependencyGraph = dependencyGraph;
+            this.annotationIndex = new AnnotationIndex(componentsAndBean);
+            InstanceGenerations.attach(componentsAndBean);
+            this.parent = parent;
+            if (parent instanceof ApplicationContextInternal) {
+                ((ApplicationContextInternal) parent).children.add(this);
+            }
+            final List<CompletableFuture<Void>> componentReadiness = new ArrayList<>();
+            for (ComponentModel componentModel : componentsAndBean) {
+                componentReadiness.add(componentModel.getReadiness());
+            }
+            if (parent != null) {
+                componentReadiness.add(parent.getReadiness());
+            }
+            this.readiness = CompletableFuture.allOf(componentReadiness.toArray(new CompletableFuture<?>[0]));
+            this.componentScopes = new HashMap<>();
+            for (ComponentModel componentModel : componentsAndBean) {
+                if (componentModel.getComponentScope() != null) {
+                    this.componentScopes.put(componentModel.getScopeName(), componentModel.getComponentScope());
+                }
+            }
             this.isInit = true;
         }
     }
@@ -81,6 +193,8 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getBean(String beanName) {
+        final SlowBeanLookupEvent event = new SlowBeanLookupEvent();
+        event.begin();
         ComponentModel requiredComponentModel = null;
         for (ComponentModel componentModel : this.componentsAndBean) {
             if (Objects.equals(componentModel.getInstanceName(), beanName)) {
@@ -88,6 +202,11 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
                 break;
             }
         }
+        if (requiredComponentModel == null && this.parent != null) {
+            return this.parent.getBean(beanName);
+        }
+        commitLookupEvent(event, null, beanName, requiredComponentModel != null);
+        this.containerMetrics.onBeanLookup(null, beanName, requiredComponentModel != null);
         if (requiredComponentModel == null) {
             throw new NoSuchBeanDefinitionException(String.format("No bean named '%s' available", beanName));
         } else {
@@ -125,16 +244,76 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getBean(Class<?> cls, String instanceName) {
+        final SlowBeanLookupEvent event = new SlowBeanLookupEvent();
+        event.begin();
         ComponentModel defineBean = this.getDefineBean(cls, instanceName);
+        commitLookupEvent(event, cls, instanceName, defineBean != null);
         if (defineBean != null) {
+            this.containerMetrics.onBeanLookup(cls, instanceName, true);
             return (T) defineBean.getInstance();
         } else if (cls.isAssignableFrom(this.getClass())) {
+            this.containerMetrics.onBeanLookup(cls, instanceName, true);
             return (T) this;
         } else {
+            this.containerMetrics.onBeanLookup(cls, instanceName, false);
             return null;
         }
     }
 
+    private static void commitLookupEvent(SlowBeanLookupEvent event, Class<?> requestedType, String requestedName, boolean found) {
+        if (event.shouldCommit()) {
+            event.requestedType = requestedType;
+            event.requestedName = requestedName;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return - The timings of the startup of this context.
+     */
+    @Override
+    public StartupReport getStartupReport() {
+        return this.startupReport;
+    }
+
+    /**
+     * @return - The runtime metrics of this context, {@link ContainerMetrics#NOOP} if none were configured.
+     */
+    @Override
+    public ContainerMetrics getMetrics() {
+        return this.containerMetrics;
+    }
+
+    /**
+     * @return - The dependency graph of the components of this context, see
+     * {@link DependencyGraph#getCriticalPath(StartupReport)} with {@link #getStartupReport()}.
+     */
+    @Override
+    public DependencyGraph getDependencyGraph() {
+        return this.dependencyGraph;
+    }
+
+    /**
+     * @return - The context this one falls back to for the components it does not hold, null for a root context.
+     */
+    @Override
+    public ApplicationContext getParent() {
+        return this.parent;
+    }
+
+    /**
+     * > The context is usable as soon as it is created, but components with an asynchronous
+     * {@link org.ioc.stereotype.PostConstruct} method may still be warming up. Health checks can wait on this future.
+     *
+     * @return - A future completed once every component of this context and of its parents is ready, failed if a post
+     * construct method failed.
+     */
+    @Override
+    public CompletableFuture<Void> getReadiness() {
+        return this.readiness.copy();
+    }
+
     /**
      * Get a component model from type
      *
@@ -148,7 +327,8 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
 
     /**
      * > If the component type is assignable from the component model's component type or the component model's instance,
-     * and the instance name matches, then return the component model
+     * and the instance name matches, then return the component model. Components not held by this context are looked
+     * up in the parent context.
      *
      * @param componentType - The type of the bean to retrieve.
      * @param instanceName  - The name of the bean to retrieve.
@@ -156,6 +336,21 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
      */
     @Override
     public ComponentModel getDefineBean(Class<?> componentType, String instanceName) {
+        final ComponentModel component = this.getOwnDefineBean(componentType, instanceName);
+        if (component == null && this.parent != null) {
+            return this.parent.getDefineBean(componentType, instanceName);
+        }
+        return component;
+    }
+
+    /**
+     * Same as {@link #getDefineBean(Class, String)}, without looking in the parent context.
+     *
+     * @param componentType - The type of the bean to retrieve.
+     * @param instanceName  - The name of the bean to retrieve.
+     * @return - A component model of this context
+     */
+    protected ComponentModel getOwnDefineBean(Class<?> componentType, String instanceName) {
         ComponentModel component = null;
         for (ComponentModel componentModel : this.componentsAndBean) {
             if (this.checkBeanType(componentType, instanceName, componentModel)) {
@@ -178,47 +373,33 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
 
 
     /**
-     * > This function returns a map of beans with the specified annotation
+     * > This function returns a map of beans with the specified annotation, directly or as a meta-annotation, keyed by
+     * the lower case simple name of their type
      *
      * @param annotation - The annotation class that you want to find.
      * @return - A map of beans with the annotation.
      */
     @Override
     public Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotation) {
-        Map<String, Object> beanWithAnnotation = new HashMap<String, Object>();
-        List<Object> instanceBeans = new ArrayList<>();
-        for (ComponentModel componentModel : this.componentsAndBean) {
-            if (componentModel.getAnnotation().annotationType() == annotation) {
-                instanceBeans.add(componentModel.getInstance());
-            }
-        }
-        for (Object instanceBean : instanceBeans) {
-            beanWithAnnotation.put(instanceBean.getClass().getSimpleName().toLowerCase(), instanceBean);
+        final List<ComponentModel> componentModels = this.annotationIndex.getComponents(annotation);
+        final String[] beanNames = this.annotationIndex.getBeanNames(annotation);
+        final Map<String, Object> beanWithAnnotation = new HashMap<>(componentModels.size() * 4 / 3 + 1);
+        for (int i = 0; i < beanNames.length; i++) {
+            beanWithAnnotation.put(beanNames[i], componentModels.get(i).getInstance());
         }
         return beanWithAnnotation;
     }
 
     /**
-     * > We are filtering the list of components and bean by the annotation type and then mapping the component type to the
-     * simple name of the class
+     * > It returns the simple names of the types of the components and beans with the given annotation, directly or as
+     * a meta-annotation
      *
      * @param annotation - The annotation class to look for.
      * @return - An array of strings.
      */
     @Override
     public String[] getBeanNamesForAnnotation(Class<? extends Annotation> annotation) {
-        List<String> beanNameForAnnotation = new ArrayList<>();
-        for (ComponentModel componentModel : this.componentsAndBean) {
-            if (componentModel.getAnnotation().annotationType() == annotation) {
-                beanNameForAnnotation.add(componentModel.getComponentType().getSimpleName());
-            }
-        }
-        return beanNameForAnnotation.toArray(String[]::new);
-//        return this.componentsAndBean.stream()
-//                .filter(component -> component.getAnnotation().annotationType() == annotation)
-//                .map(ComponentModel::getComponentType)
-//                .map(Class::getSimpleName)
-//                .toArray(String[]::new);
+        return this.annotationIndex.getSimpleNames(annotation);
     }
 
     /**
@@ -232,7 +413,7 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
     }
 
     /**
-     * It creates a new instance of the bean and returns it
+     * It creates a new instance of the bean and returns it, the instance held by the context stays the same
      *
      * @param beanClass - The class of the bean you want to get a new instance of.
      * @param instanceName - The name of the bean instance.
@@ -248,25 +429,96 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
                 break;
             }
         }
+        if (componentModel == null && this.parent != null) {
+            return this.parent.getNewBean(beanClass, instanceName);
+        }
         if (componentModel == null) {
             throw new IllegalArgumentException(String.format(COMPONENT_NOT_FOUND_FORMAT, beanClass.getName()));
+        } else if (componentModel instanceof ComponentBeanModel) {
+            return (T) InstantiationComponentBean.HandlerInstantiation.createNewInstance((ComponentBeanModel) componentModel);
         } else {
-            final Object oldInstance = componentModel.getActualInstance();
-            componentModel.setInstance(oldInstance);
-            if (componentModel instanceof ComponentBeanModel) {
-                InstantiationComponentBean.HandlerInstantiation.createBeanInstance((ComponentBeanModel) componentModel);
-            } else {
-                InstantiationComponentBean.HandlerInstantiation.createInstance(componentModel);
-            }
-            final Object newInstance = componentModel.getActualInstance();
-            return (T) newInstance;
+            return (T) InstantiationComponentBean.HandlerInstantiation.createNewInstance(componentModel);
         }
     }
 
+    /**
+     * Borrow an instance of a pooled component with the given type
+     *
+     * @param cls - Type of the pooled component
+     * @return - An instance that belongs to the caller until it is given back with {@link #returnBean(Object)}
+     */
+    @Override
+    public <T> T borrowBean(Class<T> cls) {
+        return this.borrowBean(cls, null);
+    }
+
+    /**
+     * It takes an idle instance from the pool of the component, or creates a new one if the pool is empty
+     *
+     * @param cls          - Type of the pooled component
+     * @param instanceName - Name of the pooled component
+     * @return - An instance that belongs to the caller until it is given back with {@link #returnBean(Object)}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T borrowBean(Class<?> cls, String instanceName) {
+        final ComponentPool componentPool = this.getComponentPool(cls, instanceName);
+        final Object instance = componentPool.borrow();
+        this.borrowedInstances.put(new BorrowedInstance(instance), componentPool);
+        return (T) instance;
+    }
+
+    /**
+     * It resets the instance and gives it back to the pool it was borrowed from, so it can be borrowed again
+     *
+     * @param componentInstance - An instance obtained from {@link #borrowBean(Class)}
+     * @throws IllegalArgumentException - if the instance is not currently borrowed from this context, e.g. it was
+     *                                  already returned.
+     */
+    @Override
+    public void returnBean(Object componentInstance) {
+        final ComponentPool componentPool = this.borrowedInstances.remove(new BorrowedInstance(componentInstance));
+        if (componentPool == null) {
+            throw new IllegalArgumentException(String.format(
+                    INSTANCE_NOT_BORROWED_FORMAT, componentInstance.getClass().getName()));
+        }
+        componentPool.release(componentInstance);
+    }
+
+    /**
+     * It ends the active scope with the given name for the calling thread. The {@link org.ioc.stereotype.PreDestroy}
+     * methods of the instances created in that scope are executed, and the next call gets new instances.
+     *
+     * @param scopeName - Name of the scope, e.g. {@link org.ioc.engine.ScopeType#THREAD_SCOPE_NAME}
+     */
+    @Override
+    public void endScope(String scopeName) {
+        final ComponentScope componentScope = this.componentScopes.get(scopeName);
+        if (componentScope == null && this.parent != null) {
+            this.parent.endScope(scopeName);
+            return;
+        }
+        if (componentScope == null) {
+            throw new IllegalArgumentException(String.format(SCOPE_NOT_FOUND_FORMAT, scopeName));
+        }
+        componentScope.end();
+    }
+
+    private ComponentPool getComponentPool(Class<?> cls, String instanceName) {
+        final ComponentModel componentModel = this.getDefineBean(cls, instanceName);
+        if (componentModel == null) {
+            throw new NoSuchBeanDefinitionException(String.format(COMPONENT_NOT_FOUND_FORMAT, cls.getName()));
+        }
+        if (componentModel.getComponentPool() == null) {
+            throw new IllegalArgumentException(String.format(COMPONENT_NOT_POOLED_FORMAT, cls.getName()));
+        }
+        return componentModel.getComponentPool();
+    }
+
     private boolean checkBeanType(Class<?> beanClass, String instanceName, ComponentModel componentModel) {
         final boolean isRequiredTypeAssignable = beanClass.isAssignableFrom(componentModel.getComponentType());
-        final boolean isRequiredTypeAssignable2 = componentModel.getInstance() != null &&
-                beanClass.isAssignableFrom(componentModel.getInstance().getClass());
+        final boolean isRequiredTypeAssignable2 = componentModel.getActualInstance() != null &&
+                beanClass.isAssignableFrom(componentModel.getActualInstance().getClass());
         final boolean instanceNameMatches = instanceName == null || instanceName.equalsIgnoreCase(componentModel.getInstanceName());
         return (isRequiredTypeAssignable || isRequiredTypeAssignable2) && instanceNameMatches;
     }
@@ -275,26 +527,29 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
      * > Return a list of all the components that implement the given class
      *
      * @param cls The class to search for implementations of.
-     * @return A list of ComponentModel objects that are assignable from the class passed in.
+     * @return An immutable list of ComponentModel objects that are assignable from the class passed in, the ones of
+     * this context first, then the ones of the parent context.
      */
     @Override
     public Collection<ComponentModel> getImplementations(Class<?> cls) {
-        return this.componentsAndBean.stream()
+        final List<ComponentModel> implementations = this.componentsAndBean.stream()
                 .filter(sd -> cls.isAssignableFrom(sd.getComponentType()))
                 .collect(Collectors.toList());
+        if (this.parent != null) {
+            implementations.addAll(this.parent.getImplementations(cls));
+        }
+        return Collections.unmodifiableList(implementations);
     }
 
     /**
-     * > Get all the components that have the specified annotation
+     * > Get all the components that have the specified annotation, directly or as a meta-annotation
      *
      * @param annotation The annotation class to be searched
-     * @return A collection of ComponentModel objects that have the annotation specified.
+     * @return An immutable collection of ComponentModel objects that have the annotation specified.
      */
     @Override
     public Collection<ComponentModel> getDefineBeansWithAnnotation(Class<? extends Annotation> annotation) {
-        return this.componentsAndBean.stream()
-                .filter(sd -> sd.getAnnotation() != null && sd.getAnnotation().annotationType() == annotation)
-                .collect(Collectors.toList());
+        return this.annotationIndex.getComponents(annotation);
     }
 
     /**
@@ -329,7 +584,8 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
     }
 
     /**
-     * If the component is found, destroy the old instance and set the new instance.
+     * If the component is found, publish the new instance, then destroy the old one. Readers get either the old
+     * instance or the new one, never none.
      *
      * @param cls The class of the component to be updated
      * @param componentInstance The new instance of the component
@@ -337,30 +593,208 @@ public class ApplicationContextInternal implements EnvironmentSource, Applicatio
      */
     @Override
     public void updateBeanInstance(Class<?> cls, Object componentInstance, boolean destroyOldInstance) {
-        final ComponentModel componentModel = this.getDefineBean(cls, null);
+        // The components of the parent context are shared with its other children, they are never replaced from here.
+        final ComponentModel componentModel = this.getOwnDefineBean(cls, null);
         if (componentModel == null) {
             throw new IllegalArgumentException(String.format(COMPONENT_NOT_FOUND_FORMAT, cls.getName()));
         } else {
+            final Object oldInstance = componentModel.getActualInstance();
+            componentModel.setInstance(componentInstance);
+            this.invalidateCaches();
             if (destroyOldInstance) {
-                InstantiationComponentBean.HandlerInstantiation.destroyInstance(componentModel);
+                InstantiationComponentBean.HandlerInstantiation.destroyInstance(componentModel, oldInstance);
             }
-            componentModel.setInstance(componentInstance);
         }
     }
 
+    /**
+     * Called whenever an instance of the context is replaced, by {@link #updateBeanInstance(Class, Object, boolean)} or
+     * {@link #reload(ComponentModel)}, so that subclasses can drop what they cached about the components.
+     */
+    protected void invalidateCaches() {
+    }
+
+    /**
+     * > It replaces the instance of the component, and of every component depending on it, directly or not, by a new
+     * one. The new instances are all created before any of them is swapped in, so a failed reload keeps the current
+     * instances, then the previous ones are destroyed, dependents first.
+     *
+     * @param componentModel - A component or bean of this context.
+     * @throws IllegalStateException - if a component of an open child context was injected with one of the components
+     *                               to reload.
+     */
     @Override
-    public void reload(ComponentModel componentModel) {
-        InstantiationComponentBean.HandlerInstantiation.destroyInstance(componentModel);
-        final Object newInstance = this.getNewBean(componentModel.getComponentType(), componentModel.getInstanceName());
-        componentModel.setInstance(newInstance);
+    public synchronized void reload(ComponentModel componentModel) {
+        final ReloadEvent event = new ReloadEvent();
+        event.begin();
+        final List<ComponentModel> reloadedComponents;
+        try {
+            reloadedComponents = new ReloadComponent(this.dependencyGraph, this.getReloadExecutor(), this.getChildComponents())
+                    .reload(componentModel);
+        } finally {
+            this.invalidateCaches();
+        }
+        if (event.shouldCommit()) {
+            event.componentType = componentModel.getComponentType();
+            event.instanceName = componentModel.getInstanceName();
+            event.reloadedComponents = reloadedComponents.size();
+            event.commit();
+        }
     }
 
     @Override
     public void reload(Class<?> cls) {
-        ComponentModel defineBean = this.getDefineBean(cls, null);
+        ComponentModel defineBean = this.getOwnDefineBean(cls, null);
         if (defineBean == null) {
             throw new IllegalArgumentException(String.format(COMPONENT_NOT_FOUND_FORMAT, cls));
         }
         this.reload(defineBean);
     }
+
+    /**
+     * @return - The components and beans of the open child contexts and of their own children.
+     */
+    private List<ComponentModel> getChildComponents() {
+        final List<ComponentModel> childComponents = new ArrayList<>();
+        for (ApplicationContextInternal child : this.children) {
+            if (!child.isClosed()) {
+                childComponents.addAll(child.componentsAndBean);
+                childComponents.addAll(child.getChildComponents());
+            }
+        }
+        return childComponents;
+    }
+
+    /**
+     * @param shutdownTimeoutMillis - Max time given to the {@link org.ioc.stereotype.PreDestroy} method of each
+     *                              component by {@link #close()}.
+     */
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    /**
+     * @param reloadExecutor - Creates the new instances of {@link #reload(ComponentModel)}, null for daemon threads of
+     *                       the context.
+     */
+    public void setReloadExecutor(Executor reloadExecutor) {
+        this.reloadExecutor = reloadExecutor;
+    }
+
+    /**
+     * @return - The configured reload executor, or daemon threads of the context shared by all its reloads and shut
+     * down when it is closed.
+     */
+    private Executor getReloadExecutor() {
+        if (this.reloadExecutor != null) {
+            return this.reloadExecutor;
+        }
+        if (this.ownReloadExecutor == null) {
+            this.ownReloadExecutor = ReloadComponent.createDefaultExecutor();
+        }
+        return this.ownReloadExecutor;
+    }
+
+    /**
+     * It registers a JVM shutdown hook closing this context, so that the components are destroyed when the process is
+     * terminated. Calling {@link #close()} before removes the hook.
+     */
+    @Override
+    public synchronized void registerShutdownHook() {
+        if (this.shutdownHook == null && !this.isClosed()) {
+            this.shutdownHook = new Thread(this::close, SHUTDOWN_HOOK_THREAD_NAME);
+            Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return this.closed.get();
+    }
+
+    /**
+     * > It destroys the components of this context in reverse dependency order, independent components in parallel,
+     * giving each one at most the shutdown timeout. Idle instances of pools are destroyed as well. The components of
+     * the parent context are left alone. Only the first call does something.
+     *
+     * @throws org.ioc.exception.PreDestroyExecutionException - if some pre destroy methods failed or timed out, once all
+     *                                                        the others ran.
+     */
+    @Override
+    public void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+        this.removeShutdownHook();
+        if (this.parent instanceof ApplicationContextInternal) {
+            ((ApplicationContextInternal) this.parent).children.remove(this);
+        }
+        try {
+            new DestructionComponent(this.getDestructionGraph(), this.shutdownTimeoutMillis).destroyAll();
+        } finally {
+            if (this.containerMetrics instanceof DefaultContainerMetrics) {
+                ((DefaultContainerMetrics) this.containerMetrics).unregisterMBean();
+            }
+            this.invalidateCaches();
+            this.shutdownReloadExecutor();
+        }
+    }
+
+    private synchronized void shutdownReloadExecutor() {
+        if (this.ownReloadExecutor != null) {
+            this.ownReloadExecutor.shutdown();
+            this.ownReloadExecutor = null;
+        }
+    }
+
+    private synchronized void removeShutdownHook() {
+        if (this.shutdownHook != null && Thread.currentThread() != this.shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+            } catch (IllegalStateException e) {
+                // The JVM is already shutting down, the hook runs anyway.
+            }
+        }
+        this.shutdownHook = null;
+    }
+
+    /**
+     * @return - The dependency graph of the context. Contexts created without one get a graph where every component
+     * depends on the previous one, so they are destroyed one by one in reverse order.
+     */
+    private DependencyGraph getDestructionGraph() {
+        if (this.dependencyGraph.size() > 0) {
+            return this.dependencyGraph;
+        }
+        final DependencyGraph destructionGraph = new DependencyGraph();
+        ComponentModel previous = null;
+        for (ComponentModel componentModel : this.componentsAndBean) {
+            if (!(componentModel instanceof ComponentBeanModel)) {
+                destructionGraph.addComponent(componentModel, previous == null ? List.of() : List.of(previous));
+                previous = componentModel;
+            }
+        }
+        return destructionGraph;
+    }
+
+    /**
+     * Key of a borrowed instance by identity, whatever its equals and hashCode methods.
+     */
+    private static final class BorrowedInstance {
+        private final Object instance;
+
+        private BorrowedInstance(Object instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof BorrowedInstance && ((BorrowedInstance) other).instance == this.instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.instance);
+        }
+    }
 }
@@ -3,7 +3,7 @@ package org.ioc.contex.factory;
 import java.lang.annotation.Annotation;
 import java.util.Map;
 
-public interface ListableBeanFactory extends BeanFactory, UpdatableBeanFactory, ReloadableBeanFactory{
+public interface ListableBeanFactory extends BeanFactory, UpdatableBeanFactory, ReloadableBeanFactory, PooledBeanFactory, ScopedBeanFactory{
     String[] getBeanDefinitionNames();
     int getBeanDefinitionCount();
     Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotation);
@@ -0,0 +1,7 @@
+package org.ioc.contex.factory;
+
+public interface PooledBeanFactory {
+    <T> T borrowBean(Class<T> cls);
+    <T> T borrowBean(Class<?> cls, String instanceName);
+    void returnBean(Object componentInstance);
+}
@@ -0,0 +1,5 @@
+package org.ioc.contex.factory;
+
+public interface ScopedBeanFactory {
+    void endScope(String scopeName);
+}
@@ -1,19 +1,94 @@
 package org.ioc.engine;
 
 import org.ioc.exception.ComponentInstantiationException;
+import org.ioc.stereotype.Order;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.lang.reflect.Array;
+import java.util.*;
 
 public class CollectionUtils {
+    private static final String UNSUPPORTED_COLLECTION_FORMAT = "Cannot autowire collection of type %s.";
+
+    /**
+     * > It creates an empty collection of the declared type: a list keeps the order of the components and so does a
+     * set, except a sorted set, which sorts its {@link Comparable} components.
+     *
+     * @param cls - The declared type of the collection.
+     * @return - A new modifiable collection.
+     */
     public static <T> Collection<T> createInstanceOfCollection(Class<?> cls) {
         if (cls.isAssignableFrom(ArrayList.class)) {
             return new ArrayList<>();
         }
-        if (cls.isAssignableFrom(HashSet.class)) {
-            return new HashSet<>();
+        if (cls.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>();
+        }
+        if (cls.isAssignableFrom(LinkedList.class)) {
+            return new LinkedList<>();
+        }
+        if (cls.isAssignableFrom(TreeSet.class)) {
+            return new TreeSet<>();
+        }
+        throw new ComponentInstantiationException(String.format(UNSUPPORTED_COLLECTION_FORMAT, cls.getName()));
+    }
+
+    /**
+     * > It creates an unmodifiable collection of the given type holding the elements in order, which can be shared by
+     * every injection point.
+     *
+     * @param cls      - The declared type of the collection.
+     * @param elements - The elements of the collection.
+     * @return - The collection, or null if the type is a concrete class, whose instances the dependent may modify.
+     */
+    public static Collection<Object> createImmutableCollection(Class<?> cls, Object[] elements) {
+        if (cls == List.class || cls == Collection.class) {
+            return Collections.unmodifiableList(Arrays.asList(elements));
+        }
+        if (cls == Set.class) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(elements)));
+        }
+        return null;
+    }
+
+    /**
+     * @return - A new array of the given component type holding the elements.
+     */
+    public static Object createArray(Class<?> componentType, Object[] elements) {
+        final Object array = Array.newInstance(componentType, elements.length);
+        System.arraycopy(elements, 0, array, 0, elements.length);
+        return array;
+    }
+
+    /**
+     * @return - An unmodifiable map of the elements by key, in order.
+     */
+    public static Map<String, Object> createImmutableMap(String[] keys, Object[] elements) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], elements[i]);
         }
-        throw new ComponentInstantiationException("Cannot autowire collection of type %s.");
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * > It sorts the components by their {@link Order}, keeping the order of the context for equal values.
+     *
+     * @param componentModels - The components to sort.
+     * @return - A new sorted list.
+     */
+    public static List<ComponentModel> sortByOrder(List<ComponentModel> componentModels) {
+        final List<ComponentModel> sorted = new ArrayList<>(componentModels);
+        sorted.sort(Comparator.comparingInt(CollectionUtils::getOrder));
+        return sorted;
+    }
+
+    /**
+     * @return - The value of the {@link Order} of the component, or of the method of the bean.
+     */
+    public static int getOrder(ComponentModel componentModel) {
+        final Order order = componentModel instanceof ComponentBeanModel
+                ? ((ComponentBeanModel) componentModel).getOriginMethod().getAnnotation(Order.class)
+                : componentModel.getComponentType().getAnnotation(Order.class);
+        return order == null ? Integer.MAX_VALUE : order.value();
     }
 }
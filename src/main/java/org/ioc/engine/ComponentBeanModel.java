@@ -43,9 +43,9 @@ public class ComponentBeanModel extends ComponentModel {
                 return null;
             }
 
-            if (!super.instanceRequested) {
-                super.instanceRequested = true;
-                return super.getActualInstance();
+            final Object pendingInstance = super.takePendingInstance();
+            if (pendingInstance != null) {
+                return pendingInstance;
             }
 
             return InstantiationComponentBean.HandlerInstantiation.createNewInstance(this);
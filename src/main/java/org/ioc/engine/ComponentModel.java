@@ -1,8 +1,11 @@
 package org.ioc.engine;
 
+import org.ioc.engine.core.CompiledComponentFactory;
 import org.ioc.engine.core.InstantiationComponentBean;
 import org.ioc.exception.ComponentInstantiationException;
 import org.ioc.exception.PostConstructException;
+import org.ioc.support.ComponentScope;
+import org.ioc.support.ContainerMetrics;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
@@ -10,6 +13,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ComponentModel {
     private static final String PROXY_ALREADY_CREATED_MSG = "Proxy instance already created.";
@@ -32,9 +37,17 @@ public class ComponentModel {
      */
     private String instanceName;
     /**
-     * Component instance.
+     * Component instance, until the component is attached to the {@link InstanceGenerations} of its context.
      */
     private Object instance;
+    /**
+     * The instances of the context once it is initialized, null before.
+     */
+    private volatile InstanceGenerations generations;
+    /**
+     * Slot of the component in {@link InstanceGenerations}.
+     */
+    private int generationSlot;
     /**
      * Reference to the post construct method if any.
      */
@@ -43,10 +56,26 @@ public class ComponentModel {
      * Reference to the pre destroy method if any.
      */
     private Method preDestroyMethod;
+    /**
+     * Reference to the pool reset method if any.
+     */
+    private Method poolResetMethod;
     /**
      * Holds information for service's scope.
      */
     private ScopeType scopeType;
+    /**
+     * Name of the {@link ComponentScope} of thread and custom scoped components.
+     */
+    private String scopeName;
+    /**
+     * The scope holding the instances of thread and custom scoped components.
+     */
+    private ComponentScope componentScope;
+    /**
+     * Slot of thread and custom scoped components in {@link ScopedInstances}.
+     */
+    private int scopeIndex;
     /**
      * The reference to all @Bean (or a custom one) annotated methods.
      */
@@ -54,13 +83,37 @@ public class ComponentModel {
 
     private Field[] autowireAnnotatedFields;
 
-    protected boolean instanceRequested;
+    /**
+     * Instances of a prototype created in one batch at boot, handed out in order before new instances are created.
+     */
+    private volatile Object[] pendingInstances;
+    private final AtomicInteger pendingInstancesCursor = new AtomicInteger();
 
     private Object proxyInstance;
 
     private LinkedList<DependencyParam> resolvedConstructorParams;
     private LinkedList<DependencyParam> resolvedFields;
 
+    /**
+     * Compiled factory used to create new instances of prototype components, null if not compiled.
+     */
+    private CompiledComponentFactory componentFactory;
+
+    /**
+     * Idle instances of pooled components, null for any other scope.
+     */
+    private ComponentPool componentPool;
+
+    /**
+     * Completes once the asynchronous post construct method has run, null if the component was ready when created.
+     */
+    private volatile CompletableFuture<Void> readiness;
+
+    /**
+     * Metrics of the context the component belongs to.
+     */
+    private ContainerMetrics containerMetrics = ContainerMetrics.NOOP;
+
     private final Map<Method, List<MethodAspectHandlerDto>> methodAspectHandlers = new HashMap<>();
 
 
@@ -96,24 +149,63 @@ public class ComponentModel {
     }
 
     public Object getActualInstance() {
-        return this.instance;
+        final InstanceGenerations generations = this.generations;
+        return generations == null ? this.instance : generations.get(this.generationSlot);
     }
 
+    /**
+     * > It returns the instance to inject or to hand out from the context. A prototype gives a distinct instance for
+     * each call, so every injection point and every getBean call gets its own one. The first ones are the instances
+     * created in one batch at boot, the next ones are created on demand.
+     *
+     * @return - The instance of the component, or null if it is not instantiated yet.
+     */
     public Object getInstance() {
         if (this.getScopeType() == ScopeType.PROTOTYPE) {
-            if (this.instance == null) {
+            if (this.getActualInstance() == null) {
                 return null;
             }
-            if (!this.instanceRequested) {
-                this.instanceRequested = true;
-                return this.instance;
+            final Object pendingInstance = this.takePendingInstance();
+            if (pendingInstance != null) {
+                return pendingInstance;
             }
             return InstantiationComponentBean.HandlerInstantiation.createNewInstance(this);
         }
+        if (this.componentPool != null) {
+            return this.componentPool.borrow();
+        }
         if (this.proxyInstance != null) {
             return this.proxyInstance;
         }
-        return instance;
+        return this.getActualInstance();
+    }
+
+    public void setPendingInstances(Object[] pendingInstances) {
+        this.pendingInstancesCursor.set(0);
+        this.pendingInstances = pendingInstances;
+    }
+
+    /**
+     * Takes the next instance created at boot, each one is handed out only once.
+     *
+     * @return - The instance, or null if all of them have already been taken.
+     */
+    protected Object takePendingInstance() {
+        final Object[] pendingInstances = this.pendingInstances;
+        if (pendingInstances == null) {
+            return null;
+        }
+        final int index = this.pendingInstancesCursor.getAndIncrement();
+        if (index >= pendingInstances.length) {
+            this.pendingInstances = null;
+            return null;
+        }
+        final Object pendingInstance = pendingInstances[index];
+        pendingInstances[index] = null;
+        if (index == pendingInstances.length - 1) {
+            this.pendingInstances = null;
+        }
+        return pendingInstance;
     }
 
     public void setProxyInstance(Object proxyInstance) {
@@ -132,6 +224,10 @@ public class ComponentModel {
         return preDestroyMethod;
     }
 
+    public Method getPoolResetMethod() {
+        return poolResetMethod;
+    }
+
     public Field[] getAutowireAnnotatedFields() {
         return autowireAnnotatedFields;
     }
@@ -184,8 +280,37 @@ public class ComponentModel {
         this.targetConstructor = targetConstructor;
     }
 
+    /**
+     * It sets the instance of the component. Once the component is attached to the instances of its context, this
+     * publishes a new generation of them.
+     */
     public void setInstance(Object instance) {
-        this.instance = instance;
+        final InstanceGenerations generations = this.generations;
+        if (generations == null) {
+            this.instance = instance;
+        } else {
+            generations.set(this.generationSlot, instance);
+        }
+    }
+
+    /**
+     * Hands the instance of the component over to the instances of its context.
+     *
+     * @param generations    - The instances of the context, already holding the instance of the component.
+     * @param generationSlot - Slot of the component in them.
+     */
+    void attachGenerations(InstanceGenerations generations, int generationSlot) {
+        this.generationSlot = generationSlot;
+        this.generations = generations;
+        this.instance = null;
+    }
+
+    public InstanceGenerations getGenerations() {
+        return this.generations;
+    }
+
+    public int getGenerationSlot() {
+        return this.generationSlot;
     }
 
     public void setPostConstructMethod(Method postConstructMethod) {
@@ -196,6 +321,10 @@ public class ComponentModel {
         this.preDestroyMethod = preDestroyMethod;
     }
 
+    public void setPoolResetMethod(Method poolResetMethod) {
+        this.poolResetMethod = poolResetMethod;
+    }
+
     public void setMethodAspectHandlers(Map<Method, List<MethodAspectHandlerDto>> methodAspectHandlers) {
         this.methodAspectHandlers.putAll(methodAspectHandlers);
     }
@@ -209,6 +338,66 @@ public class ComponentModel {
         return targetConstructor;
     }
 
+    public CompiledComponentFactory getComponentFactory() {
+        return this.componentFactory;
+    }
+
+    public void setComponentFactory(CompiledComponentFactory componentFactory) {
+        this.componentFactory = componentFactory;
+    }
+
+    public String getScopeName() {
+        return this.scopeName;
+    }
+
+    public void setScopeName(String scopeName) {
+        this.scopeName = scopeName;
+    }
+
+    public ComponentScope getComponentScope() {
+        return this.componentScope;
+    }
+
+    public void setComponentScope(ComponentScope componentScope) {
+        this.componentScope = componentScope;
+    }
+
+    public int getScopeIndex() {
+        return this.scopeIndex;
+    }
+
+    public void setScopeIndex(int scopeIndex) {
+        this.scopeIndex = scopeIndex;
+    }
+
+    public ComponentPool getComponentPool() {
+        return this.componentPool;
+    }
+
+    public void setComponentPool(ComponentPool componentPool) {
+        this.componentPool = componentPool;
+    }
+
+    /**
+     * @return - A future completed once the component is ready to be used, failed if its post construct method failed.
+     */
+    public CompletableFuture<Void> getReadiness() {
+        final CompletableFuture<Void> readiness = this.readiness;
+        return readiness == null ? CompletableFuture.completedFuture(null) : readiness;
+    }
+
+    public void setReadiness(CompletableFuture<Void> readiness) {
+        this.readiness = readiness;
+    }
+
+    public ContainerMetrics getContainerMetrics() {
+        return this.containerMetrics;
+    }
+
+    public void setContainerMetrics(ContainerMetrics containerMetrics) {
+        this.containerMetrics = containerMetrics;
+    }
+
     /**
      * We are using the componentType hashcode in order to make this class unique
      * when using in in sets.
@@ -0,0 +1,250 @@
+package org.ioc.engine;
+
+import org.ioc.engine.core.InstantiationComponentBean;
+import org.ioc.exception.PoolResetException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, lock-free pool of idle instances for a {@link ScopeType#POOLED} component.
+ * <p>
+ * Idle instances live in a fixed array of slots that are claimed and released with compare-and-set, each together with
+ * the time it was returned, so borrowing and returning never block. When the pool is empty a new instance is created,
+ * when it is full the returned instance is destroyed, and an instance idle for longer than the max idle time is
+ * destroyed instead of being borrowed.
+ */
+public class ComponentPool {
+    private static final String ALREADY_RETURNED_FORMAT = "Instance of '%s' is already idle in its pool.";
+
+    private final ComponentModel componentModel;
+    private final Supplier<Object> instanceFactory;
+    private final AtomicReferenceArray<IdleInstance> idleInstances;
+    private final long maxIdleMillis;
+    private final long maxIdleNanos;
+    private final AtomicLong lastEviction;
+    private volatile boolean retired;
+
+    public ComponentPool(ComponentModel componentModel, Supplier<Object> instanceFactory, int maxIdle, long maxIdleMillis) {
+        this.componentModel = componentModel;
+        this.instanceFactory = instanceFactory;
+        this.idleInstances = new AtomicReferenceArray<>(Math.max(maxIdle, 0));
+        this.maxIdleMillis = maxIdleMillis;
+        this.maxIdleNanos = maxIdleMillis > 0 ? maxIdleMillis * 1_000_000L : 0L;
+        this.lastEviction = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes an idle instance from the pool, or creates a new one if there is none.
+     *
+     * @return - An instance that is not used by anyone else until it is returned.
+     */
+    public Object borrow() {
+        final int length = this.idleInstances.length();
+        final int start = this.probeStart(length);
+        long now = 0L;
+        for (int i = 0; i < length; i++) {
+            final int index = (start + i) % length;
+            final IdleInstance idleInstance = this.idleInstances.get(index);
+            if (idleInstance != null && this.idleInstances.compareAndSet(index, idleInstance, null)) {
+                if (this.maxIdleNanos == 0L) {
+                    return idleInstance.instance;
+                }
+                if (now == 0L) {
+                    now = System.nanoTime();
+                }
+                if (!this.isExpired(idleInstance, now)) {
+                    return idleInstance.instance;
+                }
+                this.destroy(idleInstance.instance);
+            }
+        }
+        return this.instanceFactory.get();
+    }
+
+    /**
+     * Resets the instance with its {@link org.ioc.stereotype.PoolReset} method and puts it back in the pool.
+     * If the pool is full, or the reset fails, the instance is destroyed instead.
+     *
+     * @param instance - An instance previously obtained from {@link #borrow()}.
+     * @throws IllegalStateException - if the instance is already idle in the pool, i.e. it was returned twice.
+     */
+    public void release(Object instance) {
+        if (this.isIdle(instance)) {
+            throw new IllegalStateException(String.format(ALREADY_RETURNED_FORMAT, instance.getClass().getName()));
+        }
+        try {
+            this.reset(instance);
+        } catch (PoolResetException e) {
+            this.destroy(instance);
+            throw e;
+        }
+        this.maybeEvictIdle(this.offer(instance));
+    }
+
+    /**
+     * Puts a new instance, that needs no reset, in the pool, like the instance created when the component is
+     * instantiated. If the pool is full, the instance is destroyed instead.
+     *
+     * @param instance - An instance of the component that is not used by anyone.
+     */
+    public void seed(Object instance) {
+        this.offer(instance);
+    }
+
+    /**
+     * Destroys every idle instance that has been in the pool for longer than the max idle time.
+     *
+     * @return - The number of destroyed instances.
+     */
+    public int evictIdle() {
+        if (this.maxIdleNanos == 0L) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        int evicted = 0;
+        for (int i = 0; i < this.idleInstances.length(); i++) {
+            final IdleInstance idleInstance = this.idleInstances.get(i);
+            if (idleInstance != null && this.isExpired(idleInstance, now)
+                    && this.idleInstances.compareAndSet(i, idleInstance, null)) {
+                this.destroy(idleInstance.instance);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Replaces this pool by an empty one with the same settings, e.g. once the dependencies of the component have
+     * been reloaded. The idle instances are destroyed, and so are the borrowed ones when they are released here.
+     *
+     * @return - The new pool of the component.
+     */
+    public ComponentPool renew() {
+        this.retired = true;
+        this.clear();
+        return new ComponentPool(this.componentModel, this.instanceFactory, this.idleInstances.length(), this.maxIdleMillis);
+    }
+
+    /**
+     * Destroys every idle instance of the pool.
+     */
+    public void clear() {
+        for (int i = 0; i < this.idleInstances.length(); i++) {
+            final IdleInstance idleInstance = this.idleInstances.getAndSet(i, null);
+            if (idleInstance != null) {
+                this.destroy(idleInstance.instance);
+            }
+        }
+    }
+
+    /**
+     * @return - The number of idle instances currently in the pool.
+     */
+    public int getIdleCount() {
+        int idle = 0;
+        for (int i = 0; i < this.idleInstances.length(); i++) {
+            if (this.idleInstances.get(i) != null) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    private boolean isIdle(Object instance) {
+        for (int i = 0; i < this.idleInstances.length(); i++) {
+            final IdleInstance idleInstance = this.idleInstances.get(i);
+            if (idleInstance != null && idleInstance.instance == instance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public ComponentModel getComponentModel() {
+        return this.componentModel;
+    }
+
+    /**
+     * Puts the instance in a free slot, or destroys it if there is none.
+     *
+     * @return - The time the instance was returned.
+     */
+    private long offer(Object instance) {
+        if (this.retired) {
+            this.destroy(instance);
+            return System.nanoTime();
+        }
+        final int length = this.idleInstances.length();
+        final int start = this.probeStart(length);
+        final long now = System.nanoTime();
+        final IdleInstance idleInstance = new IdleInstance(instance, now);
+        boolean pooled = false;
+        for (int i = 0; i < length && !pooled; i++) {
+            final int index = (start + i) % length;
+            if (this.idleInstances.get(index) == null && this.idleInstances.compareAndSet(index, null, idleInstance)) {
+                pooled = true;
+                // A renewal running meanwhile may have missed the instance.
+                if (this.retired && this.idleInstances.compareAndSet(index, idleInstance, null)) {
+                    this.destroy(instance);
+                }
+            }
+        }
+        if (!pooled) {
+            this.destroy(instance);
+        }
+        return now;
+    }
+
+    /**
+     * Runs an eviction at most once per max idle period, on whichever thread gets there first.
+     */
+    private void maybeEvictIdle(long now) {
+        final long last = this.lastEviction.get();
+        if (this.maxIdleNanos != 0L && now - last > this.maxIdleNanos && this.lastEviction.compareAndSet(last, now)) {
+            this.evictIdle();
+        }
+    }
+
+    private boolean isExpired(IdleInstance idleInstance, long now) {
+        return this.maxIdleNanos != 0L && now - idleInstance.returnedAt > this.maxIdleNanos;
+    }
+
+    private void reset(Object instance) {
+        final Method poolResetMethod = this.componentModel.getPoolResetMethod();
+        if (poolResetMethod != null) {
+            try {
+                poolResetMethod.invoke(instance);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new PoolResetException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void destroy(Object instance) {
+        InstantiationComponentBean.HandlerInstantiation.destroyInstance(this.componentModel, instance);
+    }
+
+    /**
+     * Spreads threads over the slots so that concurrent borrowers do not all fight for the first one.
+     */
+    private int probeStart(int length) {
+        return length == 0 ? 0 : (int) (Thread.currentThread().getId() % length);
+    }
+
+    /**
+     * An idle instance with the time it was returned, claimed and released as one so that they always match.
+     */
+    private static final class IdleInstance {
+        private final Object instance;
+        private final long returnedAt;
+
+        private IdleInstance(Object instance, long returnedAt) {
+            this.instance = instance;
+            this.returnedAt = returnedAt;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.ioc.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Snapshot of the component classes of a set of active profiles, so that a deployment of a profile only loads the
+ * classes of its own components instead of scanning every class of the application.
+ * <p>
+ * Every set of profiles has its own file, e.g. {@code components-api+worker.idx}, listing the names of the component
+ * classes of these profiles, whatever their other conditions, which are evaluated again on every run. The first line
+ * holds a fingerprint of the scanned locations: the index is only used while they are unchanged.
+ * <p>
+ * The fingerprint is cheap to compute, as it runs on every start: the size and modification time of a jar, and the
+ * latest modification time of the subdirectories of a directory, which changes whenever a class is added, removed or
+ * renamed. Class files are never read nor stated.
+ */
+public class ComponentSnapshotIndex {
+    private static final String FILE_NAME_FORMAT = "components-%s.idx";
+    private static final String FINGERPRINT_PREFIX = "# ";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final Path file;
+    private final String fingerprint;
+
+    /**
+     * @param directory      - The directory of the index files.
+     * @param activeProfiles - The active profiles.
+     * @param locations      - The scanned directories and jars.
+     */
+    public ComponentSnapshotIndex(Path directory, Set<String> activeProfiles, File[] locations) {
+        this.file = directory.resolve(String.format(FILE_NAME_FORMAT, getProfilesName(activeProfiles)));
+        try {
+            // Created first, so that creating it does not modify a scanned directory after the fingerprint.
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.fingerprint = getFingerprint(locations, directory.toAbsolutePath().normalize());
+    }
+
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * > It loads the classes of the index, the same way the scanned classes are loaded.
+     *
+     * @return - The component classes of the profiles, or null if there is no index for them, the scanned locations
+     * changed since it was written, or one of its classes is gone.
+     */
+    public Set<Class<?>> read() {
+        if (!Files.isRegularFile(this.file)) {
+            return null;
+        }
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(this.file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (lines.isEmpty() || !lines.get(0).equals(FINGERPRINT_PREFIX + this.fingerprint)) {
+            return null;
+        }
+        final Set<Class<?>> classes = new HashSet<>();
+        for (String className : lines.subList(1, lines.size())) {
+            if (className.isBlank()) {
+                continue;
+            }
+            try {
+                classes.add(Class.forName(className, true, Thread.currentThread().getContextClassLoader()));
+            } catch (ClassNotFoundException | LinkageError e) {
+                return null;
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * > It writes the index, replacing the previous one of the profiles at once.
+     *
+     * @param componentClasses - The component classes of the profiles.
+     */
+    public void write(Collection<Class<?>> componentClasses) {
+        final List<String> lines = new ArrayList<>(componentClasses.size() + 1);
+        lines.add(FINGERPRINT_PREFIX + this.fingerprint);
+        componentClasses.stream().map(Class::getName).sorted().forEach(lines::add);
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path temporaryFile = Files.createTempFile(this.file.getParent(), this.file.getFileName().toString(), ".tmp");
+            Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+            Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String getProfilesName(Set<String> activeProfiles) {
+        final StringJoiner name = new StringJoiner("+");
+        activeProfiles.stream().sorted().forEach(profile -> name.add(profile.replaceAll("[^A-Za-z0-9_.-]", "_")));
+        return name.toString();
+    }
+
+    /**
+     * The path, size and last modification of every jar, and the path and latest modification of the subdirectories
+     * of every directory.
+     */
+    private static String getFingerprint(File[] locations, Path indexDirectory) {
+        final StringJoiner fingerprint = new StringJoiner(";");
+        for (File location : locations) {
+            if (location.isDirectory()) {
+                fingerprint.add(location.getAbsolutePath() + ":" + getLastModifiedDirectory(location.toPath(), indexDirectory));
+            } else {
+                fingerprint.add(location.getAbsolutePath() + ":" + location.length() + ":" + location.lastModified());
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Walks the directories of the tree only: entries named as class files are skipped without being stated, and the
+     * index directory, modified by every write of the index, is left out.
+     */
+    private static long getLastModifiedDirectory(Path root, Path indexDirectory) {
+        long lastModified = 0L;
+        final Deque<Path> directories = new ArrayDeque<>();
+        directories.push(root);
+        try {
+            while (!directories.isEmpty()) {
+                final Path directory = directories.pop();
+                lastModified = Math.max(lastModified, Files.getLastModifiedTime(directory).toMillis());
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                    for (Path entry : entries) {
+                        if (!entry.getFileName().toString().endsWith(CLASS_FILE_SUFFIX) && Files.isDirectory(entry)
+                                && !entry.toAbsolutePath().normalize().equals(indexDirectory)) {
+                            directories.push(entry);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lastModified;
+    }
+}
@@ -0,0 +1,282 @@
+package org.ioc.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * The dependency graph built while resolving the components of a context. Every node is a component, and its edges
+ * point to the components it needs before it can be instantiated: the components of its constructor params and
+ * fields, the root components of the beans it depends on, and its aspect handlers.
+ * <p>
+ * Components are kept in resolution order, so every component comes after all of its dependencies.
+ */
+public class DependencyGraph {
+    private final Map<ComponentModel, Set<ComponentModel>> dependencies = new LinkedHashMap<>();
+    private final Map<ComponentModel, Set<ComponentModel>> dependents = new HashMap<>();
+
+    /**
+     * Adds a component once all its dependencies have been added.
+     *
+     * @param componentModel - The resolved component.
+     * @param dependencies   - The components it depends on.
+     */
+    public void addComponent(ComponentModel componentModel, Collection<ComponentModel> dependencies) {
+        this.dependencies.put(componentModel, Collections.unmodifiableSet(new LinkedHashSet<>(dependencies)));
+        this.dependents.putIfAbsent(componentModel, new LinkedHashSet<>());
+        for (ComponentModel dependency : dependencies) {
+            this.dependents.computeIfAbsent(dependency, key -> new LinkedHashSet<>()).add(componentModel);
+        }
+    }
+
+    public boolean contains(ComponentModel componentModel) {
+        return this.dependencies.containsKey(componentModel);
+    }
+
+    /**
+     * @return - All components, every one after its dependencies.
+     */
+    public List<ComponentModel> getComponents() {
+        return List.copyOf(this.dependencies.keySet());
+    }
+
+    /**
+     * @return - The components the given one directly depends on.
+     */
+    public Set<ComponentModel> getDependencies(ComponentModel componentModel) {
+        return this.dependencies.getOrDefault(componentModel, Set.of());
+    }
+
+    /**
+     * @return - The components that directly depend on the given one.
+     */
+    public Set<ComponentModel> getDependents(ComponentModel componentModel) {
+        return Collections.unmodifiableSet(this.dependents.getOrDefault(componentModel, Set.of()));
+    }
+
+    /**
+     * @param componentModel - A component of the graph.
+     * @return - Every component that depends on the given one, directly or not, every one after its dependencies.
+     */
+    public List<ComponentModel> getTransitiveDependents(ComponentModel componentModel) {
+        final Set<ComponentModel> reached = new HashSet<>();
+        final Deque<ComponentModel> toVisit = new ArrayDeque<>(this.getDependents(componentModel));
+        while (!toVisit.isEmpty()) {
+            final ComponentModel dependent = toVisit.poll();
+            if (reached.add(dependent)) {
+                toVisit.addAll(this.getDependents(dependent));
+            }
+        }
+        final List<ComponentModel> transitiveDependents = new ArrayList<>(reached.size());
+        for (ComponentModel component : this.dependencies.keySet()) {
+            if (reached.contains(component)) {
+                transitiveDependents.add(component);
+            }
+        }
+        return transitiveDependents;
+    }
+
+    public int size() {
+        return this.dependencies.size();
+    }
+
+    /**
+     * > It finds the chain of dependencies that took the longest to create at boot. A component can only be created
+     * once all its dependencies are, so even with unlimited parallel instantiation the startup could not be shorter
+     * than this chain.
+     *
+     * @param startupReport - The report of the startup that created the components.
+     * @return - The critical path.
+     */
+    public CriticalPath getCriticalPath(StartupReport startupReport) {
+        final Map<ComponentModel, Long> finishNanos = new HashMap<>();
+        final Map<ComponentModel, ComponentModel> slowestDependency = new HashMap<>();
+        ComponentModel last = null;
+        long totalNanos = 0L;
+        for (Map.Entry<ComponentModel, Set<ComponentModel>> entry : this.dependencies.entrySet()) {
+            long startNanos = 0L;
+            ComponentModel slowest = null;
+            for (ComponentModel dependency : entry.getValue()) {
+                final long dependencyFinish = finishNanos.getOrDefault(dependency, 0L);
+                if (slowest == null || dependencyFinish > startNanos) {
+                    startNanos = dependencyFinish;
+                    slowest = dependency;
+                }
+            }
+            if (slowest != null) {
+                slowestDependency.put(entry.getKey(), slowest);
+            }
+            final long nanos = getNanos(entry.getKey(), startupReport);
+            totalNanos += nanos;
+            finishNanos.put(entry.getKey(), startNanos + nanos);
+            if (last == null || startNanos + nanos > finishNanos.get(last)) {
+                last = entry.getKey();
+            }
+        }
+        final LinkedList<ComponentModel> path = new LinkedList<>();
+        for (ComponentModel component = last; component != null; component = slowestDependency.get(component)) {
+            path.addFirst(component);
+        }
+        return new CriticalPath(path, last == null ? 0L : finishNanos.get(last), totalNanos);
+    }
+
+    /**
+     * @return - The graph in the Graphviz DOT format. Every component is labelled with its construction time, and the
+     * critical path is drawn in red.
+     */
+    public String toDot(StartupReport startupReport) {
+        final List<ComponentModel> criticalComponents = this.getCriticalPath(startupReport).getComponents();
+        final Set<ComponentModel> critical = new HashSet<>(criticalComponents);
+        final Map<ComponentModel, ComponentModel> criticalEdges = new HashMap<>();
+        for (int i = 1; i < criticalComponents.size(); i++) {
+            criticalEdges.put(criticalComponents.get(i), criticalComponents.get(i - 1));
+        }
+        final StringBuilder dot = new StringBuilder("digraph components {\n  rankdir=LR;\n  node [shape=box];\n");
+        for (ComponentModel component : this.dependencies.keySet()) {
+            dot.append("  \"").append(StartupReport.escape(describe(component))).append("\" [label=\"")
+                    .append(StartupReport.escape(describe(component))).append("\\n")
+                    .append(String.format(Locale.ROOT, "%.3f ms", getNanos(component, startupReport) / 1_000_000.0)).append('"')
+                    .append(critical.contains(component) ? ", color=red" : "").append("];\n");
+        }
+        for (Map.Entry<ComponentModel, Set<ComponentModel>> entry : this.dependencies.entrySet()) {
+            for (ComponentModel dependency : entry.getValue()) {
+                dot.append("  \"").append(StartupReport.escape(describe(entry.getKey()))).append("\" -> \"")
+                        .append(StartupReport.escape(describe(dependency))).append('"')
+                        .append(dependency.equals(criticalEdges.get(entry.getKey())) ? " [color=red]" : "")
+                        .append(";\n");
+            }
+        }
+        return dot.append("}\n").toString();
+    }
+
+    /**
+     * @return - The graph as a JSON object with its components, their dependencies and the critical path.
+     */
+    public String toJson(StartupReport startupReport) {
+        final CriticalPath criticalPath = this.getCriticalPath(startupReport);
+        final StringBuilder json = new StringBuilder("{\n  \"components\": [");
+        boolean first = true;
+        for (Map.Entry<ComponentModel, Set<ComponentModel>> entry : this.dependencies.entrySet()) {
+            json.append(first ? "\n" : ",\n")
+                    .append("    {\"id\": \"").append(StartupReport.escape(describe(entry.getKey())))
+                    .append("\", \"nanos\": ").append(getNanos(entry.getKey(), startupReport))
+                    .append(", \"dependencies\": [");
+            boolean firstDependency = true;
+            for (ComponentModel dependency : entry.getValue()) {
+                json.append(firstDependency ? "" : ", ").append('"').append(StartupReport.escape(describe(dependency))).append('"');
+                firstDependency = false;
+            }
+            json.append("]}");
+            first = false;
+        }
+        json.append("\n  ],\n  \"criticalPath\": {\"nanos\": ").append(criticalPath.getNanos())
+                .append(", \"totalNanos\": ").append(criticalPath.getTotalNanos())
+                .append(", \"components\": [");
+        final List<ComponentModel> components = criticalPath.getComponents();
+        for (int i = 0; i < components.size(); i++) {
+            json.append(i == 0 ? "" : ", ").append('"').append(StartupReport.escape(describe(components.get(i)))).append('"');
+        }
+        return json.append("]}\n}\n").toString();
+    }
+
+    /**
+     * Writes the graph as DOT, see {@link #toDot(StartupReport)}.
+     *
+     * @param file - The file to write, replaced if it exists.
+     */
+    public void writeDot(Path file, StartupReport startupReport) {
+        write(file, this.toDot(startupReport));
+    }
+
+    /**
+     * Writes the graph as JSON, see {@link #toJson(StartupReport)}.
+     *
+     * @param file - The file to write, replaced if it exists.
+     */
+    public void writeJson(Path file, StartupReport startupReport) {
+        write(file, this.toJson(startupReport));
+    }
+
+    private static void write(Path file, String content) {
+        try {
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The boot time of a component: its constructor and post construct method, and the methods of its beans.
+     */
+    private static long getNanos(ComponentModel componentModel, StartupReport startupReport) {
+        long nanos = getNanos(startupReport.getComponentTiming(componentModel));
+        if (componentModel.getBeans() != null) {
+            for (ComponentBeanModel bean : componentModel.getBeans()) {
+                nanos += getNanos(startupReport.getComponentTiming(bean));
+            }
+        }
+        return nanos;
+    }
+
+    private static long getNanos(StartupReport.ComponentTiming componentTiming) {
+        return componentTiming == null ? 0L : componentTiming.getTotalNanos();
+    }
+
+    private static String describe(ComponentModel componentModel) {
+        return componentModel.getInstanceName() == null
+                ? componentModel.getComponentType().getName()
+                : componentModel.getComponentType().getName() + " (" + componentModel.getInstanceName() + ")";
+    }
+
+    /**
+     * The longest chain of dependencies of a boot, see {@link #getCriticalPath(StartupReport)}.
+     */
+    public static final class CriticalPath {
+        private final List<ComponentModel> components;
+        private final long nanos;
+        private final long totalNanos;
+
+        private CriticalPath(List<ComponentModel> components, long nanos, long totalNanos) {
+            this.components = List.copyOf(components);
+            this.nanos = nanos;
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * @return - The components of the chain, from the first one created to the last one.
+         */
+        public List<ComponentModel> getComponents() {
+            return this.components;
+        }
+
+        /**
+         * @return - The time spent creating the components of the chain.
+         */
+        public long getNanos() {
+            return this.nanos;
+        }
+
+        /**
+         * @return - The time spent creating all components, one after the other.
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * @return - How many times faster the instantiation could be if independent components were created in
+         * parallel.
+         */
+        public double getParallelSpeedup() {
+            return this.nanos == 0L ? 1.0 : (double) this.totalNanos / this.nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d components, %d ns of %d ns", this.components.size(), this.nanos, this.totalNanos);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.ioc.engine;
 import org.ioc.support.DependencyResolver;
 
 import java.lang.annotation.Annotation;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class DependencyParam {
     private final Class<?> dependencyType;
@@ -12,6 +14,7 @@ public class DependencyParam {
     private DependencyResolver dependencyResolver;
     private ComponentModel componentModel;
     private Object instance;
+    private Supplier<Object> resolvedInstance;
 
     public DependencyParam(Class<?> dependencyType, String instanceName, Annotation[] annotations) {
         this.dependencyType = dependencyType;
@@ -44,11 +47,22 @@ public class DependencyParam {
         return componentModel;
     }
     public Object getInstance() {
+        return this.getInstance(ComponentModel::getInstance);
+    }
+
+    /**
+     * > Same as {@link #getInstance()}, taking the instances of the resolved components from the given function, e.g.
+     * to inject instances that are not set on the components yet.
+     *
+     * @param instances - The instance to inject for a component.
+     * @return - The instance to inject.
+     */
+    public Object getInstance(Function<ComponentModel, Object> instances) {
         final Object instance;
         if (this.dependencyResolver != null) {
-            instance = this.instance;
+            instance = this.getResolvedInstance();
         } else if (this.componentModel != null) {
-            instance = this.componentModel.getInstance();
+            instance = instances.apply(this.componentModel);
         } else {
             instance = null;
         }
@@ -62,6 +76,13 @@ public class DependencyParam {
         return instance;
     }
 
+    /**
+     * @return - The instance given by the {@link DependencyResolver}, resolved now if its scope asks for it.
+     */
+    protected Object getResolvedInstance() {
+        return this.resolvedInstance != null ? this.resolvedInstance.get() : this.instance;
+    }
+
     public void setRequired(boolean required) {
         isRequired = required;
     }
@@ -78,6 +99,14 @@ public class DependencyParam {
         this.instance = instance;
     }
 
+    /**
+     * @param resolvedInstance - Gives the instance of the {@link DependencyResolver} on every injection, according to
+     *                         its scope.
+     */
+    public void setResolvedInstance(Supplier<Object> resolvedInstance) {
+        this.resolvedInstance = resolvedInstance;
+    }
+
     /**
      * > If the component model's component type is assignable to the dependency type, or if the component model's instance
      * is not null and the instance's class is assignable to the dependency type, and if the instance name is null or
@@ -87,8 +116,8 @@ public class DependencyParam {
      */
     public boolean isCompatible(ComponentModel componentModel) {
         final boolean isRequiredTypeAssignable = this.dependencyType.isAssignableFrom(componentModel.getComponentType());
-        final boolean isRequiredTypeAssignable2 = componentModel.getInstance() != null &&
-                this.dependencyType.isAssignableFrom(componentModel.getInstance().getClass());
+        final boolean isRequiredTypeAssignable2 = componentModel.getActualInstance() != null &&
+                this.dependencyType.isAssignableFrom(componentModel.getActualInstance().getClass());
         final boolean instanceNameMatches = this.instanceName  == null || this.instanceName.equalsIgnoreCase(componentModel.getInstanceName());
         return (isRequiredTypeAssignable || isRequiredTypeAssignable2) && instanceNameMatches;
     }
@@ -1,37 +1,203 @@
 package org.ioc.engine;
 
 import org.ioc.engine.core.LoaderComponent;
+import org.ioc.exception.ComponentInstantiationException;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.function.Function;
 
+/**
+ * Dependency on all the compatible components at once: a collection, an array, or a {@code Map<String, T>} by bean
+ * name. The components are sorted once by {@link org.ioc.stereotype.Order}.
+ * <p>
+ * When every element is a singleton, the injected value is created once and handed out to every injection point as
+ * long as the instances of the components stay the same; only concrete collection types and arrays, which the
+ * dependent may modify, are copied. Collections with prototype, pooled or scoped components are created for each
+ * injection.
+ */
 public class DependencyParamCollection extends DependencyParam {
+    private static final String DUPLICATE_KEY_FORMAT = "Cannot autowire map of '%s', more than one component is named '%s'.";
+    private static final String NOT_COMPARABLE_FORMAT = "Cannot autowire sorted set of '%s', component '%s' is not Comparable.";
+
     private final Class<?> collectionType;
     private List<ComponentModel> componentModels;
+    private String[] keys;
+    private boolean cacheable;
+    private volatile CachedInstance cachedInstance;
 
     public DependencyParamCollection(ParameterizedType parameterizedType,
                                      Class<?> dependencyType,
                                      String instanceName,
                                      Annotation[] annotations) {
-        super(LoaderComponent.HandlerGeneric.getRawType(parameterizedType), instanceName, annotations);
-        this.collectionType = dependencyType;
+        this(dependencyType, LoaderComponent.HandlerGeneric.getRawType(parameterizedType), instanceName, annotations);
+    }
+
+    /**
+     * @param collectionType - The declared type: a collection, an array or a map.
+     * @param elementType    - The type of the elements, or of the values of a map.
+     * @param instanceName   - The name of the instance, from {@link org.ioc.stereotype.Qualifier}.
+     * @param annotations    - The annotations of the parameter or field.
+     */
+    public DependencyParamCollection(Class<?> collectionType,
+                                     Class<?> elementType,
+                                     String instanceName,
+                                     Annotation[] annotations) {
+        super(elementType, instanceName, annotations);
+        this.collectionType = collectionType;
     }
 
+    /**
+     * @return - The declared type: a collection, an array or a map.
+     */
+    public Class<?> getCollectionType() {
+        return this.collectionType;
+    }
+
+    public List<ComponentModel> getComponentModels() {
+        return this.componentModels;
+    }
+
+    /**
+     * > It sorts the components by order and, for a map, checks that their names are unique. For a sorted set, it
+     * checks that the components are {@link Comparable}, which the set sorts them by.
+     *
+     * @param componentModels - The compatible components, in the order of the context.
+     */
     public void setComponentModels(List<ComponentModel> componentModels) {
-        this.componentModels = componentModels;
+        final List<ComponentModel> sorted = CollectionUtils.sortByOrder(componentModels);
+        if (SortedSet.class.isAssignableFrom(this.collectionType)) {
+            for (ComponentModel componentModel : sorted) {
+                if (!Comparable.class.isAssignableFrom(componentModel.getComponentType())) {
+                    throw new ComponentInstantiationException(String.format(
+                            NOT_COMPARABLE_FORMAT, this.getDependencyType().getName(), componentModel.getComponentType().getName()));
+                }
+            }
+        }
+        if (Map.class.isAssignableFrom(this.collectionType)) {
+            this.keys = new String[sorted.size()];
+            for (int i = 0; i < this.keys.length; i++) {
+                this.keys[i] = getKey(sorted.get(i));
+                for (int j = 0; j < i; j++) {
+                    if (this.keys[j].equals(this.keys[i])) {
+                        throw new ComponentInstantiationException(String.format(
+                                DUPLICATE_KEY_FORMAT, this.getDependencyType().getName(), this.keys[i]));
+                    }
+                }
+            }
+        }
+        // Decided from the scopes: pools do not exist yet while dependencies are resolved.
+        this.cacheable = sorted.stream().allMatch(DependencyParamCollection::holdsSingleInstance);
+        this.componentModels = sorted;
+        this.cachedInstance = null;
     }
 
+    /**
+     * > It reuses the value created for the current instances of the components when they are all singletons.
+     *
+     * @return - The value to inject.
+     */
     @Override
     public Object getInstance() {
+        if (super.getDependencyResolver() != null || !this.cacheable) {
+            return this.getInstance(ComponentModel::getInstance);
+        }
+        final CachedInstance cachedInstance = this.cachedInstance;
+        if (cachedInstance != null && cachedInstance.isCurrent(this.componentModels)) {
+            return cachedInstance.value != null ? cachedInstance.value : this.createInstance(cachedInstance.elements);
+        }
+        final Object[] elements = this.getElements(ComponentModel::getInstance);
+        final Object value = this.createImmutableInstance(elements);
+        this.cachedInstance = new CachedInstance(elements, value);
+        return value != null ? value : this.createInstance(elements);
+    }
+
+    @Override
+    public Object getInstance(Function<ComponentModel, Object> instances) {
         if (super.getDependencyResolver() != null) {
-            return super.getInstance();
+            return super.getInstance(instances);
+        }
+        return this.createInstance(this.getElements(instances));
+    }
+
+    private Object[] getElements(Function<ComponentModel, Object> instances) {
+        final Object[] elements = new Object[this.componentModels.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = instances.apply(this.componentModels.get(i));
+        }
+        return elements;
+    }
+
+    private Object createInstance(Object[] elements) {
+        final Object value = this.createImmutableInstance(elements);
+        if (value != null) {
+            return value;
+        }
+        if (this.collectionType.isArray()) {
+            return CollectionUtils.createArray(this.collectionType.getComponentType(), elements);
         }
         final Collection<Object> collection = CollectionUtils.createInstanceOfCollection(this.collectionType);
-        collection.addAll(
-                this.componentModels.stream().map(ComponentModel::getInstance).collect(Collectors.toList()));
+        collection.addAll(Arrays.asList(elements));
         return collection;
     }
+
+    /**
+     * @return - The value shared by every injection point, or null if the dependent gets its own copy.
+     */
+    private Object createImmutableInstance(Object[] elements) {
+        if (Map.class.isAssignableFrom(this.collectionType)) {
+            return CollectionUtils.createImmutableMap(this.keys, elements);
+        }
+        if (this.collectionType.isArray()) {
+            return null;
+        }
+        return CollectionUtils.createImmutableCollection(this.collectionType, elements);
+    }
+
+    /**
+     * @return - True if the component gives the same instance to every injection, until it is reloaded or updated.
+     */
+    private static boolean holdsSingleInstance(ComponentModel componentModel) {
+        final ScopeType scopeType = componentModel.getScopeType();
+        return scopeType != ScopeType.PROTOTYPE && scopeType != ScopeType.POOLED
+                && scopeType != ScopeType.THREAD && scopeType != ScopeType.CUSTOM
+                && componentModel.getScopeName() == null;
+    }
+
+    /**
+     * The name of a component in a map: its instance name, or the lower case simple name of its type.
+     */
+    private static String getKey(ComponentModel componentModel) {
+        return componentModel.getInstanceName() != null
+                ? componentModel.getInstanceName()
+                : componentModel.getComponentType().getSimpleName().toLowerCase();
+    }
+
+    private static final class CachedInstance {
+        private final Object[] elements;
+        private final Object value;
+
+        private CachedInstance(Object[] elements, Object value) {
+            this.elements = elements;
+            this.value = value;
+        }
+
+        /**
+         * @return - True if the components still have the instances the value was created with. Only called for
+         * cacheable collections, whose components all hold a single instance, so nothing is created or borrowed.
+         */
+        private boolean isCurrent(List<ComponentModel> componentModels) {
+            for (int i = 0; i < this.elements.length; i++) {
+                if (componentModels.get(i).getInstance() != this.elements[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
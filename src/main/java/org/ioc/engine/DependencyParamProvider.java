@@ -0,0 +1,41 @@
+package org.ioc.engine;
+
+import org.ioc.support.Provider;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Function;
+
+/**
+ * Dependency on a {@link Provider}. It is resolved like the provided type, but the injected instance is a provider
+ * bound to the resolved component, created once and shared by every instance of the dependent.
+ */
+public class DependencyParamProvider extends DependencyParam {
+    private Provider<Object> provider;
+
+    public DependencyParamProvider(Class<?> providedType, String instanceName, Annotation[] annotations) {
+        super(providedType, instanceName, annotations);
+    }
+
+    @Override
+    public Object getInstance(Function<ComponentModel, Object> instances) {
+        // The provider asks the component on every call, so it always gives the current instance.
+        if (this.provider == null) {
+            this.provider = this.createProvider();
+        }
+        return this.provider;
+    }
+
+    /**
+     * > If the dependency was resolved to a component, the provider asks the component directly, otherwise it falls
+     * back to the instance given by a {@link org.ioc.support.DependencyResolver}.
+     *
+     * @return - The provider to inject.
+     */
+    private Provider<Object> createProvider() {
+        final ComponentModel componentModel = super.getComponentModel();
+        if (componentModel != null) {
+            return componentModel::getInstance;
+        }
+        return super::getResolvedInstance;
+    }
+}
@@ -0,0 +1,34 @@
+package org.ioc.engine;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Dependency on a configuration value, from {@link org.ioc.stereotype.Value}. It is never satisfied by a component:
+ * the value is given by the property resolver of the context, converted once and shared by every injection of the same
+ * expression and type.
+ */
+public class DependencyParamValue extends DependencyParam {
+    private final String expression;
+    private final Type genericType;
+
+    /**
+     * @param dependencyType - The type of the field or parameter.
+     * @param genericType    - The type of the field or parameter with its type arguments, e.g. {@code List<Integer>}.
+     * @param expression     - The value, with its {@code ${key:default}} placeholders.
+     * @param annotations    - The annotations of the field or parameter.
+     */
+    public DependencyParamValue(Class<?> dependencyType, Type genericType, String expression, Annotation[] annotations) {
+        super(dependencyType, null, annotations);
+        this.expression = expression;
+        this.genericType = genericType;
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    public Type getGenericType() {
+        return this.genericType;
+    }
+}
@@ -1,14 +1,22 @@
 package org.ioc.engine;
 
 import org.ioc.engine.core.LoaderComponent;
+import org.ioc.exception.ComponentInstantiationException;
 import org.ioc.stereotype.Qualifier;
+import org.ioc.stereotype.Value;
+import org.ioc.support.Provider;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Map;
 
 public class EnqueuedComponentDetails {
+    private static final String RAW_PROVIDER_FORMAT = "Cannot autowire %s, the type of the Provider is missing.";
+    private static final String UNSUPPORTED_PROVIDER_FORMAT = "Cannot autowire %s, a Provider of %s is not supported, inject the collection itself.";
+    private static final String CONSTRUCTOR_PARAM_FORMAT = "parameter '%s' of the constructor of '%s'";
+    private static final String FIELD_FORMAT = "field '%s' of '%s'";
     private final ComponentModel componentModel;
     private final LinkedList<DependencyParam> constructorParams;
     private final LinkedList<DependencyParam> fieldDependencies;
@@ -30,10 +38,11 @@ public class EnqueuedComponentDetails {
     private void fillConstructorParams() {
         for (Parameter parameter : this.componentModel.getTargetConstructor().getParameters()) {
             Class<?> type = parameter.getType();
-            String instanceName = this.getInstanceName(parameter.getDeclaredAnnotations());
+            String instanceName = this.getAnnotationValue(parameter.getDeclaredAnnotations(), Qualifier.class);
             Annotation[] annotations = parameter.getDeclaredAnnotations();
             Type parameterizedType = parameter.getParameterizedType();
-            this.constructorParams.add(this.createDependencyParam(type, instanceName, annotations, parameterizedType));
+            String member = String.format(CONSTRUCTOR_PARAM_FORMAT, parameter.getName(), this.componentModel.getComponentType().getName());
+            this.constructorParams.add(this.createDependencyParam(type, instanceName, annotations, parameterizedType, member));
         }
     }
 
@@ -43,21 +52,23 @@ public class EnqueuedComponentDetails {
     private void fillFieldDependencyTypes() {
         for (Field autowireAnnotatedField : this.componentModel.getAutowireAnnotatedFields()) {
             Class<?> type = autowireAnnotatedField.getType();
-            String instanceName = this.getInstanceName(autowireAnnotatedField.getDeclaredAnnotations());
+            String instanceName = this.getAnnotationValue(autowireAnnotatedField.getDeclaredAnnotations(), Qualifier.class);
             Annotation[] annotations = autowireAnnotatedField.getDeclaredAnnotations();
             Type genericType = autowireAnnotatedField.getGenericType();
-            this.fieldDependencies.add(this.createDependencyParam(type, instanceName, annotations, genericType));
+            String member = String.format(FIELD_FORMAT, autowireAnnotatedField.getName(), this.componentModel.getComponentType().getName());
+            this.fieldDependencies.add(this.createDependencyParam(type, instanceName, annotations, genericType, member));
         }
     }
 
     /**
-     * It gets the value of the @Qualifier annotation
+     * It gets the value of the @Qualifier or @Value annotation
      *
-     * @param annotations - The annotations of the field to be injected.
-     * @return - The name of the instance.
+     * @param annotations    - The annotations of the field to be injected.
+     * @param annotationType - The annotation to read.
+     * @return - The name of the instance or the value expression.
      */
-    private String getInstanceName(Annotation[] annotations) {
-        final Annotation annotation = LoaderComponent.HandlerAnnotation.getAnnotation(annotations, Qualifier.class);
+    private String getAnnotationValue(Annotation[] annotations, Class<? extends Annotation> annotationType) {
+        final Annotation annotation = LoaderComponent.HandlerAnnotation.getAnnotation(annotations, annotationType);
         if (annotation != null) {
             try {
                 Method method = annotation.annotationType().getMethod("value");
@@ -71,16 +82,83 @@ public class EnqueuedComponentDetails {
     }
 
     /**
-     * If the type is a collection, create a DependencyParamCollection, otherwise create a DependencyParam
+     * If the dependency has a @Value, create a DependencyParamValue, if the type is a collection, create a
+     * DependencyParamCollection, if it is a provider, create a DependencyParamProvider, otherwise create a
+     * DependencyParam
      *
      * @param type              - The type of the parameter.
      * @param instanceName      - The name of the instance to be injected.
      * @param annotations       - The annotations on the parameter.
      * @param parameterizedType - The type of the parameter.
+     * @param member            - The parameter or field, for error messages.
      * @return - A DependencyParam object.
      */
-    private DependencyParam createDependencyParam(Class<?> type, String instanceName, Annotation[] annotations, Type parameterizedType) {
-        return Collection.class.isAssignableFrom(type) ? new DependencyParamCollection((ParameterizedType) parameterizedType, type, instanceName, annotations) : new DependencyParam(type, instanceName, annotations);
+    private DependencyParam createDependencyParam(Class<?> type, String instanceName, Annotation[] annotations, Type parameterizedType,
+                                                  String member) {
+        final String expression = this.getAnnotationValue(annotations, Value.class);
+        if (expression != null) {
+            return new DependencyParamValue(type, parameterizedType, expression, annotations);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return new DependencyParamCollection((ParameterizedType) parameterizedType, type, instanceName, annotations);
+        }
+        if (type.isArray() && !type.getComponentType().isPrimitive()) {
+            return new DependencyParamCollection(type, type.getComponentType(), instanceName, annotations);
+        }
+        final Class<?> mapValueType = getMapValueType(type, parameterizedType);
+        if (mapValueType != null) {
+            return new DependencyParamCollection(type, mapValueType, instanceName, annotations);
+        }
+        if (type == Provider.class) {
+            return new DependencyParamProvider(getProvidedType(parameterizedType, member), instanceName, annotations);
+        }
+        return new DependencyParam(type, instanceName, annotations);
+    }
+
+    /**
+     * > Collections, arrays and maps are resolved from several components, which a provider of a single component
+     * cannot give, so they are rejected like a raw provider.
+     *
+     * @return - The type a {@link Provider} gives, e.g. {@code Service} for {@code Provider<Service>}.
+     * @throws ComponentInstantiationException - if the provided type is missing or is a collection, an array or a map.
+     */
+    private static Class<?> getProvidedType(Type parameterizedType, String member) {
+        if (!(parameterizedType instanceof ParameterizedType)) {
+            throw new ComponentInstantiationException(String.format(RAW_PROVIDER_FORMAT, member));
+        }
+        final Type typeArgument = ((ParameterizedType) parameterizedType).getActualTypeArguments()[0];
+        final Class<?> providedType;
+        if (typeArgument instanceof Class) {
+            providedType = (Class<?>) typeArgument;
+        } else if (typeArgument instanceof ParameterizedType) {
+            providedType = (Class<?>) ((ParameterizedType) typeArgument).getRawType();
+        } else {
+            throw new ComponentInstantiationException(String.format(RAW_PROVIDER_FORMAT, member));
+        }
+        if (Collection.class.isAssignableFrom(providedType) || Map.class.isAssignableFrom(providedType) || providedType.isArray()) {
+            throw new ComponentInstantiationException(String.format(UNSUPPORTED_PROVIDER_FORMAT, member, providedType.getName()));
+        }
+        return providedType;
+    }
+
+    /**
+     * @return - The type of the values of a {@code Map<String, T>}, null for any other type.
+     */
+    private static Class<?> getMapValueType(Class<?> type, Type parameterizedType) {
+        if (type != Map.class || !(parameterizedType instanceof ParameterizedType)) {
+            return null;
+        }
+        final Type[] typeArguments = ((ParameterizedType) parameterizedType).getActualTypeArguments();
+        if (typeArguments[0] != String.class) {
+            return null;
+        }
+        if (typeArguments[1] instanceof Class) {
+            return (Class<?>) typeArguments[1];
+        }
+        if (typeArguments[1] instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) typeArguments[1]).getRawType();
+        }
+        return null;
     }
 
     /**
@@ -0,0 +1,70 @@
+package org.ioc.engine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Instances of the components of a context, published as immutable generations. Every component has its own slot,
+ * given by {@link ComponentModel#getGenerationSlot()}, in an array that is never written once published.
+ * <p>
+ * Replacing instances copies the current array, sets the new instances in the copy and publishes it with a single
+ * atomic swap. Readers never lock: they see either the previous generation or the next one, never a part of both.
+ */
+public class InstanceGenerations {
+    private final AtomicReference<Object[]> current;
+
+    private InstanceGenerations(Object[] instances) {
+        this.current = new AtomicReference<>(instances);
+    }
+
+    /**
+     * > It gives a slot to every component and takes their current instances as the first generation. From then on,
+     * the instances of the components are the ones of the current generation.
+     *
+     * @param componentModels - The components and beans of the context.
+     * @return - The generations the components are attached to.
+     */
+    public static InstanceGenerations attach(List<ComponentModel> componentModels) {
+        final Object[] instances = new Object[componentModels.size()];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = componentModels.get(i).getActualInstance();
+        }
+        final InstanceGenerations generations = new InstanceGenerations(instances);
+        for (int i = 0; i < instances.length; i++) {
+            componentModels.get(i).attachGenerations(generations, i);
+        }
+        return generations;
+    }
+
+    /**
+     * @return - The instance of the slot in the current generation.
+     */
+    public Object get(int slot) {
+        return this.current.get()[slot];
+    }
+
+    /**
+     * Publishes a new generation where the slot holds the given instance.
+     */
+    public void set(int slot, Object instance) {
+        this.current.updateAndGet(instances -> {
+            final Object[] next = instances.clone();
+            next[slot] = instance;
+            return next;
+        });
+    }
+
+    /**
+     * Publishes a new generation where all the given components hold their new instance at once.
+     *
+     * @param newInstances - The new instance of every replaced component, all of them with a slot in this object.
+     */
+    public void setAll(Map<ComponentModel, Object> newInstances) {
+        this.current.updateAndGet(instances -> {
+            final Object[] next = instances.clone();
+            newInstances.forEach((componentModel, instance) -> next[componentModel.getGenerationSlot()] = instance);
+            return next;
+        });
+    }
+}
@@ -16,6 +16,7 @@ public class InvocationHandlerImpl implements InvocationHandler {
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        this.componentModel.getContainerMetrics().onProxyInvocation(this.componentModel, method);
         try {
             return method.invoke(this.componentModel.getActualInstance(), args);
         } catch (InvocationTargetException ex) {
@@ -1,6 +1,8 @@
 package org.ioc.engine;
 
 import javassist.util.proxy.MethodHandler;
+import org.ioc.engine.event.AspectChainEvent;
+import org.ioc.support.ContainerMetrics;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
@@ -19,12 +21,17 @@ public class MethodInvocationHandler implements MethodHandler {
     @Override
     @SuppressWarnings("unchecked")
     public Object invoke(Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
+        final ContainerMetrics metrics = this.componentModel.getContainerMetrics();
+        metrics.onProxyInvocation(this.componentModel, thisMethod);
         try {
             if (!this.componentModel.getMethodAspectHandlers().containsKey(thisMethod)) {
                 return thisMethod.invoke(this.componentModel.getActualInstance(), args);
             }
 
             final List<MethodAspectHandlerDto> aspectHandlers = this.componentModel.getMethodAspectHandlers().get(thisMethod);
+            final AspectChainEvent event = new AspectChainEvent();
+            event.begin();
+            final long start = metrics.isEnabled() ? System.nanoTime() : 0L;
 
             final AtomicReference<MethodInvocationChain> invocationChain = new AtomicReference<>(() -> thisMethod.invoke(
                     this.componentModel.getActualInstance(), args
@@ -43,7 +50,17 @@ public class MethodInvocationHandler implements MethodHandler {
                 ));
             }
 
-            return invocationChain.get().proceed();
+            final Object result = invocationChain.get().proceed();
+            if (metrics.isEnabled()) {
+                metrics.onAspectChain(this.componentModel, thisMethod, System.nanoTime() - start);
+            }
+            if (event.shouldCommit()) {
+                event.componentType = this.componentModel.getComponentType();
+                event.method = thisMethod.getName();
+                event.aspects = aspectHandlers.size();
+                event.commit();
+            }
+            return result;
         } catch (InvocationTargetException ex) {
             throw ex.getTargetException();
         }
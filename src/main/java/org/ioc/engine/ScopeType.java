@@ -7,7 +7,8 @@ public enum ScopeType {
     SINGLETON,
 
     /**
-     * New instance for each request to obtain the Component.
+     * New instance for each request to obtain the Component: every injection point and every getBean call receives a
+     * distinct instance. The instances needed at boot are created in one batch once the dependencies are resolved.
      */
     PROTOTYPE,
 
@@ -15,7 +16,29 @@ public enum ScopeType {
      * A proxy instance will be created, allowing the user to swap instances for dependencies at runtime
      * without having to reload them.
      */
-    PROXY;
+    PROXY,
+
+    /**
+     * Instances are borrowed from a bounded pool of idle instances and returned to it once the caller is done,
+     * giving prototype-like isolation without creating a new instance for each request.
+     */
+    POOLED,
+
+    /**
+     * One instance per thread. Dependents receive a proxy which delegates to the instance of the calling thread.
+     */
+    THREAD,
+
+    /**
+     * One instance per active scope of the {@link org.ioc.support.ComponentScope} registered under
+     * {@link org.ioc.stereotype.Scope#name()}. Dependents receive a proxy which delegates to the current instance.
+     */
+    CUSTOM;
 
     public static final ScopeType DEFAULT_SCOPE = SINGLETON;
+
+    /**
+     * Name of the {@link org.ioc.support.ComponentScope} used for {@link #THREAD} components.
+     */
+    public static final String THREAD_SCOPE_NAME = "thread";
 }
@@ -0,0 +1,40 @@
+package org.ioc.engine;
+
+import javassist.util.proxy.MethodHandler;
+import org.ioc.support.ComponentScope;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Handler of the proxy given to dependents of a scoped component. Every call is delegated to the instance of the
+ * currently active scope.
+ */
+public class ScopedInstanceHandler implements MethodHandler, InvocationHandler {
+    private final ComponentModel componentModel;
+    private final ComponentScope componentScope;
+    private final Supplier<Object> instanceFactory;
+
+    public ScopedInstanceHandler(ComponentModel componentModel, ComponentScope componentScope, Supplier<Object> instanceFactory) {
+        this.componentModel = componentModel;
+        this.componentScope = componentScope;
+        this.instanceFactory = instanceFactory;
+    }
+
+    @Override
+    public Object invoke(Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
+        return this.invoke(self, thisMethod, args);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        this.componentModel.getContainerMetrics().onProxyInvocation(this.componentModel, method);
+        try {
+            return method.invoke(this.componentScope.get(this.componentModel, this.instanceFactory), args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.ioc.engine;
+
+import org.ioc.engine.core.InstantiationComponentBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Instances of the scoped components of one active scope. Every scoped component has its own slot, given by
+ * {@link ComponentModel#getScopeIndex()} and numbered per configuration by
+ * {@link org.ioc.configuration.InstantiationConfiguration#nextScopeIndex()}, so finding the current instance is a
+ * single array read.
+ * <p>
+ * This class is not thread safe. It is meant to be confined to one thread, as done by {@link ThreadComponentScope}.
+ */
+public class ScopedInstances {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] instances;
+    private final List<ComponentModel> creationOrder;
+
+    public ScopedInstances() {
+        this.instances = new Object[INITIAL_CAPACITY];
+        this.creationOrder = new ArrayList<>();
+    }
+
+    /**
+     * Returns the instance of the component in this scope, creating it with the given factory when absent.
+     *
+     * @param componentModel  - The scoped component.
+     * @param instanceFactory - Creates a new instance of the component.
+     * @return - The instance of the component in this scope.
+     */
+    public Object get(ComponentModel componentModel, Supplier<Object> instanceFactory) {
+        final int scopeIndex = componentModel.getScopeIndex();
+        if (scopeIndex < this.instances.length) {
+            final Object instance = this.instances[scopeIndex];
+            if (instance != null) {
+                return instance;
+            }
+        } else {
+            this.instances = Arrays.copyOf(this.instances, Math.max(scopeIndex + 1, this.instances.length * 2));
+        }
+        final Object instance = instanceFactory.get();
+        this.instances[scopeIndex] = instance;
+        this.creationOrder.add(componentModel);
+        return instance;
+    }
+
+    /**
+     * Runs the {@link org.ioc.stereotype.PreDestroy} methods of all instances, in reverse order of creation, and
+     * clears the scope. Every instance is destroyed even if some of them fail; the first failure is then rethrown.
+     */
+    public void destroy() {
+        RuntimeException failure = null;
+        for (int i = this.creationOrder.size() - 1; i >= 0; i--) {
+            final ComponentModel componentModel = this.creationOrder.get(i);
+            final Object instance = this.instances[componentModel.getScopeIndex()];
+            this.instances[componentModel.getScopeIndex()] = null;
+            try {
+                InstantiationComponentBean.HandlerInstantiation.destroyInstance(componentModel, instance);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        this.creationOrder.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.ioc.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Where the startup time of a context went: the duration of each boot phase and, for every component and bean
+ * instantiated at boot, the time spent in its constructor (or bean method) and in its
+ * {@link org.ioc.stereotype.PostConstruct} method.
+ * <p>
+ * Prototypes created through their compiled factory report the time of the whole batch as construction time, which
+ * includes their post construct method.
+ */
+public class StartupReport {
+    public enum Phase {
+        /**
+         * Locating and loading the classes of the scanned directories and jars.
+         */
+        SCAN,
+        /**
+         * Keeping only the classes annotated with a component annotation.
+         */
+        FILTER,
+        /**
+         * Creating the component models and their beans.
+         */
+        MAPPING,
+        /**
+         * Binding aspect handlers to the annotated methods.
+         */
+        ASPECTS,
+        /**
+         * Resolving and ordering the dependencies of every component.
+         */
+        RESOLUTION,
+        /**
+         * Creating the instances and proxies, without the post construct methods.
+         */
+        INSTANTIATION,
+        /**
+         * Running the post construct methods.
+         */
+        POST_CONSTRUCT,
+        /**
+         * Running the {@link org.ioc.stereotype.StartUp} methods.
+         */
+        STARTUP_METHODS
+    }
+
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private final Map<ComponentModel, ComponentTiming> componentTimings = new LinkedHashMap<>();
+
+    /**
+     * Adds the given duration to a phase.
+     *
+     * @param phase - The boot phase.
+     * @param nanos - The duration in nanoseconds.
+     */
+    public synchronized void recordPhase(Phase phase, long nanos) {
+        this.phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Adds the given durations to a component.
+     *
+     * @param componentModel     - The component or bean.
+     * @param constructNanos     - Time spent in the constructor and field injection, or in the bean method.
+     * @param postConstructNanos - Time spent in the post construct method.
+     */
+    public synchronized void recordComponent(ComponentModel componentModel, long constructNanos, long postConstructNanos) {
+        this.componentTimings
+                .computeIfAbsent(componentModel, ComponentTiming::new)
+                .add(constructNanos, postConstructNanos);
+    }
+
+    /**
+     * @param componentModel - A component or bean.
+     * @return - Its timing, or null if it was not instantiated at boot.
+     */
+    public synchronized ComponentTiming getComponentTiming(ComponentModel componentModel) {
+        return this.componentTimings.get(componentModel);
+    }
+
+    public synchronized long getPhaseNanos(Phase phase) {
+        return this.phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * @return - The sum of all phases.
+     */
+    public synchronized long getTotalNanos() {
+        long total = 0L;
+        for (long nanos : this.phaseNanos) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    /**
+     * @return - The timings of the components in instantiation order.
+     */
+    public synchronized List<ComponentTiming> getComponentTimings() {
+        return List.copyOf(this.componentTimings.values());
+    }
+
+    /**
+     * @param limit - Max number of components to return.
+     * @return - The components that took the longest to construct and initialize, slowest first.
+     */
+    public List<ComponentTiming> getSlowestComponents(int limit) {
+        final List<ComponentTiming> timings = new ArrayList<>(this.getComponentTimings());
+        timings.sort(Comparator.comparingLong(ComponentTiming::getTotalNanos).reversed());
+        return timings.subList(0, Math.min(limit, timings.size()));
+    }
+
+    /**
+     * @return - The report as a JSON object with the phases and the components sorted from the slowest.
+     */
+    public String toJson() {
+        final StringBuilder json = new StringBuilder("{\n  \"totalNanos\": ").append(this.getTotalNanos());
+        json.append(",\n  \"phases\": {");
+        final Phase[] phases = Phase.values();
+        for (int i = 0; i < phases.length; i++) {
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    \"").append(phases[i].name()).append("\": ").append(this.getPhaseNanos(phases[i]));
+        }
+        json.append("\n  },\n  \"components\": [");
+        final List<ComponentTiming> timings = this.getSlowestComponents(Integer.MAX_VALUE);
+        for (int i = 0; i < timings.size(); i++) {
+            final ComponentTiming timing = timings.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"type\": \"").append(escape(timing.getComponentType().getName()))
+                    .append("\", \"name\": ").append(timing.getInstanceName() == null ? "null" : "\"" + escape(timing.getInstanceName()) + "\"")
+                    .append(", \"constructNanos\": ").append(timing.getConstructNanos())
+                    .append(", \"postConstructNanos\": ").append(timing.getPostConstructNanos())
+                    .append('}');
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    /**
+     * Writes the report as JSON, see {@link #toJson()}.
+     *
+     * @param file - The file to write, replaced if it exists.
+     */
+    public void writeJson(Path file) {
+        try {
+            Files.writeString(file, this.toJson(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Boot durations of a single component or bean.
+     */
+    public static final class ComponentTiming {
+        private final Class<?> componentType;
+        private final String instanceName;
+        private long constructNanos;
+        private long postConstructNanos;
+
+        private ComponentTiming(ComponentModel componentModel) {
+            this.componentType = componentModel.getComponentType();
+            this.instanceName = componentModel.getInstanceName();
+        }
+
+        private void add(long constructNanos, long postConstructNanos) {
+            this.constructNanos += constructNanos;
+            this.postConstructNanos += postConstructNanos;
+        }
+
+        public Class<?> getComponentType() {
+            return this.componentType;
+        }
+
+        public String getInstanceName() {
+            return this.instanceName;
+        }
+
+        public long getConstructNanos() {
+            return this.constructNanos;
+        }
+
+        public long getPostConstructNanos() {
+            return this.postConstructNanos;
+        }
+
+        public long getTotalNanos() {
+            return this.constructNanos + this.postConstructNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: construct %d ns, post construct %d ns",
+                    this.componentType.getName(), this.constructNanos, this.postConstructNanos);
+        }
+    }
+}
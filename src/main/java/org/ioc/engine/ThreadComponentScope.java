@@ -0,0 +1,25 @@
+package org.ioc.engine;
+
+import org.ioc.support.ComponentScope;
+
+import java.util.function.Supplier;
+
+/**
+ * Scope bound to the current thread. Registered by default for {@link ScopeType#THREAD} components, and can also be
+ * registered under another name for scopes that follow a thread for their whole life, like a request.
+ */
+public class ThreadComponentScope implements ComponentScope {
+    private final ThreadLocal<ScopedInstances> scopedInstances = ThreadLocal.withInitial(ScopedInstances::new);
+
+    @Override
+    public Object get(ComponentModel componentModel, Supplier<Object> instanceFactory) {
+        return this.scopedInstances.get().get(componentModel, instanceFactory);
+    }
+
+    @Override
+    public void end() {
+        final ScopedInstances instances = this.scopedInstances.get();
+        this.scopedInstances.remove();
+        instances.destroy();
+    }
+}
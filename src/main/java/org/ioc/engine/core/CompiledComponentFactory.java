@@ -0,0 +1,144 @@
+package org.ioc.engine.core;
+
+import org.ioc.engine.ComponentModel;
+import org.ioc.engine.DependencyParam;
+import org.ioc.engine.event.PostConstructEvent;
+import org.ioc.exception.ComponentInstantiationException;
+import org.ioc.exception.PostConstructException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Factory compiled once for a component from its resolved dependencies.
+ * <p>
+ * The constructor, the {@link org.ioc.stereotype.Autowired} fields and the {@link org.ioc.stereotype.PostConstruct}
+ * method are bound to {@link MethodHandle}s and the dependency params are flattened into arrays, so creating a new
+ * instance is straight-line code: no streams, no intermediate collections and no reflective access checks.
+ */
+public final class CompiledComponentFactory {
+    private static final String CREATE_FAILED_MSG = "Could not create instance of '%s'.";
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType POST_CONSTRUCT_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final ComponentModel componentModel;
+    private final DependencyParam[] constructorParams;
+    private final DependencyParam[] fieldParams;
+    private final MethodHandle constructor;
+    private final MethodHandle[] fieldSetters;
+    private final MethodHandle postConstruct;
+
+    private CompiledComponentFactory(ComponentModel componentModel,
+                                     DependencyParam[] constructorParams,
+                                     DependencyParam[] fieldParams,
+                                     MethodHandle constructor,
+                                     MethodHandle[] fieldSetters,
+                                     MethodHandle postConstruct) {
+        this.componentModel = componentModel;
+        this.constructorParams = constructorParams;
+        this.fieldParams = fieldParams;
+        this.constructor = constructor;
+        this.fieldSetters = fieldSetters;
+        this.postConstruct = postConstruct;
+    }
+
+    /**
+     * Compiles a factory for the given component. The component must already have its resolved constructor params
+     * and resolved fields registered.
+     *
+     * @param componentModel - The component to compile a factory for.
+     * @return - The factory, or null if the constructor, fields or post construct method are not accessible, in which
+     * case the caller should keep using reflection.
+     */
+    public static CompiledComponentFactory compile(ComponentModel componentModel) {
+        final List<DependencyParam> resolvedConstructorParams = componentModel.getResolvedConstructorParams();
+        final List<DependencyParam> resolvedFields = componentModel.getResolvedFields();
+        final Field[] autowireAnnotatedFields = componentModel.getAutowireAnnotatedFields();
+        if (resolvedConstructorParams == null || resolvedFields == null
+                || resolvedFields.size() != autowireAnnotatedFields.length) {
+            return null;
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            final Constructor<?> targetConstructor = componentModel.getTargetConstructor();
+            targetConstructor.setAccessible(true);
+            final MethodHandle constructor = lookup.unreflectConstructor(targetConstructor)
+                    .asSpreader(Object[].class, targetConstructor.getParameterCount())
+                    .asType(CONSTRUCTOR_TYPE);
+
+            final MethodHandle[] fieldSetters = new MethodHandle[autowireAnnotatedFields.length];
+            for (int i = 0; i < autowireAnnotatedFields.length; i++) {
+                fieldSetters[i] = lookup.unreflectSetter(autowireAnnotatedFields[i]).asType(SETTER_TYPE);
+            }
+
+            final Method postConstructMethod = componentModel.getPostConstructMethod();
+            final MethodHandle postConstruct = postConstructMethod == null
+                    ? null
+                    : lookup.unreflect(postConstructMethod).asType(POST_CONSTRUCT_TYPE);
+
+            return new CompiledComponentFactory(
+                    componentModel,
+                    resolvedConstructorParams.toArray(new DependencyParam[0]),
+                    resolvedFields.toArray(new DependencyParam[0]),
+                    constructor,
+                    fieldSetters,
+                    postConstruct
+            );
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates, injects and initializes a new instance of the component.
+     *
+     * @return - The new instance.
+     */
+    public Object create() {
+        final DependencyParam[] constructorParams = this.constructorParams;
+        final Object[] constructorInstances = new Object[constructorParams.length];
+        for (int i = 0; i < constructorParams.length; i++) {
+            constructorInstances[i] = constructorParams[i].getInstance();
+        }
+        final DependencyParam[] fieldParams = this.fieldParams;
+        final Object[] fieldInstances = new Object[fieldParams.length];
+        for (int i = 0; i < fieldParams.length; i++) {
+            fieldInstances[i] = fieldParams[i].getInstance();
+        }
+        final Object instance;
+        try {
+            instance = (Object) this.constructor.invokeExact(constructorInstances);
+            for (int i = 0; i < fieldInstances.length; i++) {
+                this.fieldSetters[i].invokeExact(instance, fieldInstances[i]);
+            }
+        } catch (Throwable e) {
+            throw new ComponentInstantiationException(String.format(
+                    CREATE_FAILED_MSG, this.componentModel.getComponentType().getName()), e);
+        }
+        if (this.postConstruct != null) {
+            final PostConstructEvent event = new PostConstructEvent();
+            event.begin();
+            try {
+                this.postConstruct.invokeExact(instance);
+            } catch (Throwable e) {
+                throw new PostConstructException(e.getMessage(), e);
+            }
+            if (event.shouldCommit()) {
+                event.componentType = this.componentModel.getComponentType();
+                event.method = this.componentModel.getPostConstructMethod().getName();
+                event.commit();
+            }
+        }
+        return instance;
+    }
+
+    public ComponentModel getComponentModel() {
+        return this.componentModel;
+    }
+}
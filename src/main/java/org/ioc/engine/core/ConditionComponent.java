@@ -0,0 +1,166 @@
+package org.ioc.engine.core;
+
+import org.ioc.contex.enviroment.Environment;
+import org.ioc.engine.ComponentBeanModel;
+import org.ioc.engine.ComponentModel;
+import org.ioc.stereotype.ConditionalOnClass;
+import org.ioc.stereotype.ConditionalOnMissingBean;
+import org.ioc.stereotype.ConditionalOnProperty;
+import org.ioc.stereotype.Profile;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Evaluates the conditions of the component classes while scanning, so that components disabled by configuration are
+ * never mapped, resolved or instantiated.
+ * <p>
+ * {@link Profile}, {@link ConditionalOnProperty} and {@link ConditionalOnClass} only depend on the class itself and
+ * are checked first; {@link ConditionalOnMissingBean} depends on the other components and is checked once all of them
+ * are known.
+ */
+public class ConditionComponent {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final char PROFILE_NEGATION = '!';
+
+    private final Environment environment;
+    private final ClassLoader classLoader;
+    private final Set<String> activeProfiles;
+
+    /**
+     * @param environment    - The properties of the context.
+     * @param classLoader    - The class loader the classes of {@link ConditionalOnClass} are looked up with.
+     * @param activeProfiles - The active profiles.
+     */
+    public ConditionComponent(Environment environment, ClassLoader classLoader, Set<String> activeProfiles) {
+        this.environment = environment;
+        this.classLoader = classLoader;
+        this.activeProfiles = Set.copyOf(activeProfiles);
+    }
+
+    /**
+     * @return - True if the class belongs to an active profile and its property and class conditions match, or if it
+     * has no condition.
+     */
+    public boolean matches(Class<?> cls) {
+        if (!this.matchesProfile(cls)) {
+            return false;
+        }
+        final ConditionalOnProperty onProperty = cls.getAnnotation(ConditionalOnProperty.class);
+        if (onProperty != null && !this.matches(onProperty)) {
+            return false;
+        }
+        final ConditionalOnClass onClass = cls.getAnnotation(ConditionalOnClass.class);
+        return onClass == null || this.matches(onClass);
+    }
+
+    /**
+     * > It removes the classes with {@link ConditionalOnMissingBean} for which another component, or a bean of another
+     * component, is compatible with the types of the condition. They are checked by class name, each one against the
+     * existing components and the components kept before.
+     *
+     * @param componentClasses   - The component classes that passed the other conditions, with their annotation.
+     * @param beanAnnotations    - The annotations of the methods producing beans.
+     * @param existingComponents - The components the context gets without scanning them: the provided components and
+     *                           the ones of the parent contexts, with their beans.
+     */
+    public void removeMissingBeanConflicts(Map<Class<?>, Annotation> componentClasses,
+                                           Set<Class<? extends Annotation>> beanAnnotations,
+                                           Collection<ComponentModel> existingComponents) {
+        final List<Class<?>> conditionalClasses = new ArrayList<>();
+        final List<Class<?>> providedTypes = new ArrayList<>();
+        for (ComponentModel componentModel : existingComponents) {
+            providedTypes.add(componentModel.getComponentType());
+            if (!(componentModel instanceof ComponentBeanModel) && componentModel.getBeans() != null) {
+                for (ComponentBeanModel bean : componentModel.getBeans()) {
+                    providedTypes.add(bean.getComponentType());
+                }
+            }
+        }
+        for (Class<?> cls : componentClasses.keySet()) {
+            if (cls.isAnnotationPresent(ConditionalOnMissingBean.class)) {
+                conditionalClasses.add(cls);
+            } else {
+                addProvidedTypes(cls, beanAnnotations, providedTypes);
+            }
+        }
+        conditionalClasses.sort(Comparator.comparing(Class::getName));
+        for (Class<?> cls : conditionalClasses) {
+            final Class<?>[] types = cls.getAnnotation(ConditionalOnMissingBean.class).value();
+            if (isProvided(types.length == 0 ? new Class<?>[]{cls} : types, providedTypes)) {
+                componentClasses.remove(cls);
+            } else {
+                addProvidedTypes(cls, beanAnnotations, providedTypes);
+            }
+        }
+    }
+
+    /**
+     * @return - True if one of the profiles of the class is active, or if it has no {@link Profile}.
+     */
+    public boolean matchesProfile(Class<?> cls) {
+        final Profile profile = cls.getAnnotation(Profile.class);
+        if (profile == null) {
+            return true;
+        }
+        for (String name : profile.value()) {
+            final boolean negated = !name.isEmpty() && name.charAt(0) == PROFILE_NEGATION;
+            if (this.activeProfiles.contains(negated ? name.substring(1) : name) != negated) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(ConditionalOnProperty onProperty) {
+        final String property = this.environment.getProperty(onProperty.value());
+        if (property == null) {
+            return onProperty.matchIfMissing();
+        }
+        final String value = this.environment.resolvePlaceholders(property);
+        if (value == null) {
+            return onProperty.matchIfMissing();
+        }
+        return onProperty.havingValue().isEmpty()
+                ? !value.trim().equalsIgnoreCase(Boolean.FALSE.toString())
+                : value.trim().equalsIgnoreCase(onProperty.havingValue());
+    }
+
+    private boolean matches(ConditionalOnClass onClass) {
+        for (String className : onClass.value()) {
+            if (this.classLoader.getResource(className.replace('.', '/') + CLASS_FILE_SUFFIX) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the type of the component and the types of the beans it produces.
+     */
+    private static void addProvidedTypes(Class<?> cls, Set<Class<? extends Annotation>> beanAnnotations, List<Class<?>> providedTypes) {
+        providedTypes.add(cls);
+        for (Method method : cls.getDeclaredMethods()) {
+            if (method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+                for (Class<? extends Annotation> beanAnnotation : beanAnnotations) {
+                    if (LoaderComponent.HandlerAnnotation.isAnnotationPresent(method.getDeclaredAnnotations(), beanAnnotation)) {
+                        providedTypes.add(method.getReturnType());
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isProvided(Class<?>[] types, List<Class<?>> providedTypes) {
+        for (Class<?> type : types) {
+            for (Class<?> providedType : providedTypes) {
+                if (type.isAssignableFrom(providedType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,172 @@
+package org.ioc.engine.core;
+
+import org.ioc.contex.enviroment.Environment;
+import org.ioc.exception.ComponentInstantiationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Binder of the properties under a prefix to a new instance of a {@link org.ioc.stereotype.ConfigurationProperties}
+ * class, compiled once per class.
+ * <p>
+ * The constructor and the setters of the fields are bound to {@link MethodHandle}s and every field has its converter
+ * or its nested binder, so binding is a lookup, a conversion and a setter call per field: no reflection.
+ */
+final class ConfigurationPropertiesBinder {
+    private static final String NO_DEFAULT_CONSTRUCTOR_FORMAT = "Configuration properties '%s' need a constructor without parameters.";
+    private static final String BIND_FAILED_FORMAT = "Cannot bind property '%s' to '%s'.";
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ClassValue<ConfigurationPropertiesBinder> BINDERS = new ClassValue<>() {
+        @Override
+        protected ConfigurationPropertiesBinder computeValue(Class<?> type) {
+            return new ConfigurationPropertiesBinder(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final List<BoundField> fields;
+
+    private ConfigurationPropertiesBinder(Class<?> type) {
+        this.type = type;
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            final Constructor<?> defaultConstructor = type.getDeclaredConstructor();
+            defaultConstructor.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(defaultConstructor).asType(CONSTRUCTOR_TYPE);
+            this.fields = new ArrayList<>();
+            for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+                for (Field field : cls.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    this.fields.add(new BoundField(field, lookup.unreflectSetter(field).asType(SETTER_TYPE)));
+                }
+            }
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            throw new ComponentInstantiationException(String.format(NO_DEFAULT_CONSTRUCTOR_FORMAT, type.getName()), e);
+        }
+    }
+
+    static ConfigurationPropertiesBinder of(Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    /**
+     * > It creates a new instance and sets every field that has a property under the prefix. Fields without a
+     * property keep the value of their initializer.
+     *
+     * @param environment - The properties.
+     * @param prefix      - The prefix of the properties, empty for none.
+     * @return - The bound instance.
+     * @throws ComponentInstantiationException - if a property cannot be converted to its field.
+     */
+    Object bind(Environment environment, String prefix) {
+        final Object instance;
+        try {
+            instance = this.constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new ComponentInstantiationException(String.format(NO_DEFAULT_CONSTRUCTOR_FORMAT, this.type.getName()), e);
+        }
+        final String keyPrefix = prefix.isEmpty() ? "" : prefix + ".";
+        for (BoundField field : this.fields) {
+            String key = keyPrefix + field.name;
+            Object value = null;
+            try {
+                if (field.converter != null) {
+                    String property = environment.getProperty(key);
+                    if (property == null) {
+                        key = keyPrefix + field.kebabName;
+                        property = environment.getProperty(key);
+                    }
+                    if (property != null) {
+                        value = field.converter.apply(environment.resolveRequiredPlaceholders(property));
+                    }
+                } else if (field.nestedType != null) {
+                    if (!hasProperties(environment, key)) {
+                        key = keyPrefix + field.kebabName;
+                    }
+                    if (hasProperties(environment, key)) {
+                        value = of(field.nestedType).bind(environment, key);
+                    }
+                }
+                if (value != null) {
+                    field.setter.invokeExact(instance, value);
+                }
+            } catch (ComponentInstantiationException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ComponentInstantiationException(String.format(BIND_FAILED_FORMAT, key, field.toString()), e);
+            }
+        }
+        return instance;
+    }
+
+    private static boolean hasProperties(Environment environment, String prefix) {
+        final String keyPrefix = prefix + ".";
+        for (String key : environment.getProperties().keySet()) {
+            if (key.startsWith(keyPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class BoundField {
+        private final String name;
+        private final String kebabName;
+        private final String declaration;
+        private final MethodHandle setter;
+        private final Function<String, Object> converter;
+        private final Class<?> nestedType;
+
+        private BoundField(Field field, MethodHandle setter) {
+            this.name = field.getName();
+            this.kebabName = toKebabCase(field.getName());
+            this.declaration = field.getDeclaringClass().getName() + "." + field.getName();
+            this.setter = setter;
+            this.converter = PropertyConverters.getConverter(field.getGenericType());
+            this.nestedType = this.converter == null && hasDefaultConstructor(field.getType()) ? field.getType() : null;
+        }
+
+        @Override
+        public String toString() {
+            return this.declaration;
+        }
+
+        private static boolean hasDefaultConstructor(Class<?> type) {
+            try {
+                type.getDeclaredConstructor();
+                return !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+
+        /**
+         * @return - The name of the property of a field, e.g. {@code pool-size} for {@code poolSize}.
+         */
+        private static String toKebabCase(String name) {
+            final StringBuilder kebabName = new StringBuilder(name.length() + 4);
+            for (int i = 0; i < name.length(); i++) {
+                final char c = name.charAt(i);
+                if (Character.isUpperCase(c) && i > 0) {
+                    kebabName.append('-');
+                }
+                kebabName.append(Character.toLowerCase(c));
+            }
+            return kebabName.toString().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.ioc.engine.core;
 
 import org.ioc.configuration.InstantiationConfiguration;
+import org.ioc.contex.enviroment.Environment;
 import org.ioc.engine.*;
 import org.ioc.exception.CircularDependencyException;
 import org.ioc.exception.ComponentInstantiationException;
@@ -13,9 +14,45 @@ import java.util.stream.Collectors;
 
 public class DependencyResolveComponent {
     private final InstantiationConfiguration configuration;
+    private final List<ComponentModel> parentComponentModels;
+    private final DependencyResolverRegistry dependencyResolverRegistry;
+    private DependencyGraph dependencyGraph = new DependencyGraph();
 
     public DependencyResolveComponent(InstantiationConfiguration configuration) {
+        this(configuration, List.of());
+    }
+
+    /**
+     * @param configuration         - The instantiation configuration.
+     * @param parentComponentModels - The components of the parent contexts. They are already instantiated, so
+     *                              dependencies that no component of this context satisfies are linked to them
+     *                              without being resolved or instantiated again.
+     */
+    public DependencyResolveComponent(InstantiationConfiguration configuration, Collection<ComponentModel> parentComponentModels) {
+        this(configuration, parentComponentModels, Environment.load(
+                configuration.getPropertySources(), configuration.and().scanning().getClassLoader()));
+    }
+
+    /**
+     * @param configuration         - The instantiation configuration.
+     * @param parentComponentModels - The components of the parent contexts.
+     * @param environment           - The properties values and configuration properties are injected from.
+     */
+    public DependencyResolveComponent(InstantiationConfiguration configuration, Collection<ComponentModel> parentComponentModels,
+                                      Environment environment) {
         this.configuration = configuration;
+        this.parentComponentModels = List.copyOf(parentComponentModels);
+        final List<DependencyResolver> dependencyResolvers = new ArrayList<>();
+        dependencyResolvers.add(new PropertyResolver(environment));
+        dependencyResolvers.addAll(configuration.getDependencyResolvers());
+        this.dependencyResolverRegistry = new DependencyResolverRegistry(dependencyResolvers);
+    }
+
+    /**
+     * @return - The graph built by the last call to {@link #resolveDependencies(Collection)}.
+     */
+    public DependencyGraph getDependencyGraph() {
+        return this.dependencyGraph;
     }
 
 
@@ -32,11 +69,13 @@ public class DependencyResolveComponent {
      */
     public List<EnqueuedComponentDetails> resolveDependencies(Collection<ComponentModel> componentModels) {
         final List<EnqueuedComponentDetails> resolvedDependencies = new ArrayList<>();
+        final DependencyGraph dependencyGraph = new DependencyGraph();
         final List<ComponentModel> allAvailableComponents = new ArrayList<>(componentModels);
         allAvailableComponents.addAll(this.configuration.getProvidedComponentModels());
         for (ComponentModel componentModel : allAvailableComponents) {
-            this.resolveDependency(componentModel, resolvedDependencies, allAvailableComponents, new LinkedList<>());
+            this.resolveDependency(componentModel, resolvedDependencies, dependencyGraph, allAvailableComponents, new LinkedList<>());
         }
+        this.dependencyGraph = dependencyGraph;
         return resolvedDependencies;
     }
 
@@ -48,16 +87,19 @@ public class DependencyResolveComponent {
      *
      * @param componentModel         The component model to be resolved
      * @param resolvedDependencies   A list of all the components that have been resolved.
+     * @param dependencyGraph        The graph of the components that have been resolved, also used to skip them.
      * @param allAvailableComponents All components that have been registered in the container
      * @param componentModelTrace    A list of components that are currently being resolved.
      */
     private void resolveDependency(ComponentModel componentModel, List<EnqueuedComponentDetails> resolvedDependencies,
-                                   List<ComponentModel> allAvailableComponents, LinkedList<ComponentModel> componentModelTrace) {
+                                   DependencyGraph dependencyGraph, List<ComponentModel> allAvailableComponents,
+                                   LinkedList<ComponentModel> componentModelTrace) {
 
         this.checkForCyclicDependency(componentModel, componentModelTrace);
-        final EnqueuedComponentDetails enqueuedComponentDetails = new EnqueuedComponentDetails(componentModel);
 
-        if (!resolvedDependencies.contains(enqueuedComponentDetails)) {
+        if (!dependencyGraph.contains(componentModel)) {
+            final EnqueuedComponentDetails enqueuedComponentDetails = new EnqueuedComponentDetails(componentModel);
+            final Set<ComponentModel> dependencies = new LinkedHashSet<>();
             componentModelTrace.addFirst(componentModel);
             final Set<MethodAspectHandlerDto> aspects = componentModel.getMethodAspectHandlers()
                     .values().stream()
@@ -65,7 +107,8 @@ public class DependencyResolveComponent {
                     .collect(Collectors.toSet());
 
             for (MethodAspectHandlerDto aspect : aspects) {
-                this.resolveDependency(aspect.getComponentModel(), resolvedDependencies, allAvailableComponents, componentModelTrace);
+                this.resolveDependency(aspect.getComponentModel(), resolvedDependencies, dependencyGraph, allAvailableComponents, componentModelTrace);
+                dependencies.add(aspect.getComponentModel());
             }
             // Get all params from a specified component. It includes params of constructor and fields
             List<DependencyParam> dependencyParams = new ArrayList<>() {{
@@ -83,11 +126,13 @@ public class DependencyResolveComponent {
                     ), e);
                 }
                 for (ComponentModel componentModelResolve : componentModelsToResolve) {
-                    this.resolveDependency(componentModelResolve, resolvedDependencies, allAvailableComponents, componentModelTrace);
+                    this.resolveDependency(componentModelResolve, resolvedDependencies, dependencyGraph, allAvailableComponents, componentModelTrace);
+                    dependencies.add(componentModelResolve);
                 }
             }
             componentModelTrace.removeFirst();
             resolvedDependencies.add(enqueuedComponentDetails);
+            dependencyGraph.addComponent(componentModel, dependencies);
         }
     }
 
@@ -98,6 +143,13 @@ public class DependencyResolveComponent {
         if (LoaderComponent.HandlerAnnotation.isAnnotationPresent(dependencyParam.getAnnotations(), Nullable.class)) {
             dependencyParam.setRequired(false);
         }
+        if (dependencyParam instanceof DependencyParamValue) {
+            // Values never come from components.
+            final DependencyResolver dependencyResolver = this.dependencyResolverRegistry.getDependencyResolver(dependencyParam);
+            dependencyParam.setResolvedInstance(this.dependencyResolverRegistry.getResolvedInstance(dependencyResolver, dependencyParam));
+            dependencyParam.setDependencyResolver(dependencyResolver);
+            return List.of();
+        }
         // In case of the parameter is not equals null. That means @Qualifier exists. Check the value of @Qualifier and
         // compare to all the available component. If not exist, throw an exception.
         if (dependencyParam.getInstanceName() != null) {
@@ -107,6 +159,11 @@ public class DependencyResolveComponent {
                 dependencyParam.setComponentModel(resolvedComponentDto.getActualComponentModel());
                 return List.of(resolvedComponentDto.getProducerComponentModel());
             }
+            final ResolvedComponentDto parentComponentDto = HandlerDependencyParam.getNamedInstanceService(dependencyType, instanceName, this.parentComponentModels);
+            if (parentComponentDto != null) {
+                dependencyParam.setComponentModel(parentComponentDto.getActualComponentModel());
+                return List.of();
+            }
             if (dependencyParam.isRequired()) {
                 throw new ComponentInstantiationException(String.format(
                         "Could not create instance of '%s'. Qualifier '%s' was not found.",
@@ -119,17 +176,23 @@ public class DependencyResolveComponent {
         final List<ComponentModel> resolvedComponentModels;
         if (dependencyParam instanceof DependencyParamCollection) {
             resolvedComponentModels = this.loadCompatibleComponentDetails((DependencyParamCollection) dependencyParam, allAvailableComponents);
+            if (resolvedComponentModels.isEmpty() && !((DependencyParamCollection) dependencyParam).getComponentModels().isEmpty()) {
+                // Only components of the parent contexts, which are already instantiated.
+                return List.of();
+            }
         } else {
             resolvedComponentModels = this.loadCompatibleComponentDetails(dependencyParam, allAvailableComponents);
+            if (resolvedComponentModels.isEmpty() && this.loadParentComponent(dependencyParam)) {
+                return List.of();
+            }
         }
         assert resolvedComponentModels != null;
         if (!resolvedComponentModels.isEmpty()) {
             return resolvedComponentModels;
         }
-        final DependencyResolver dependencyResolver = this.getDependencyResolver(dependencyParam);
+        final DependencyResolver dependencyResolver = this.dependencyResolverRegistry.getDependencyResolver(dependencyParam);
         if (dependencyResolver != null) {
-            //TODO: do not set instance, add support for proxy and singleton dependency resolvers
-            dependencyParam.setInstance(dependencyResolver.resolve(dependencyParam));
+            dependencyParam.setResolvedInstance(this.dependencyResolverRegistry.getResolvedInstance(dependencyResolver, dependencyParam));
             dependencyParam.setDependencyResolver(dependencyResolver);
             return List.of();
         }
@@ -141,21 +204,19 @@ public class DependencyResolveComponent {
         return List.of();
     }
 
-    private DependencyResolver getDependencyResolver(DependencyParam dependencyParam) {
-        return this.configuration.getDependencyResolvers().stream()
-                .filter(dr -> dr.canResolve(dependencyParam))
-                .findFirst().orElse(null);
-    }
-
     private List<ComponentModel> loadCompatibleComponentDetails(DependencyParamCollection dependencyParam, List<ComponentModel> allAvailableComponents) {
         final List<ResolvedComponentDto> compatibleComponent = HandlerDependencyParam.findAllCompatibleComponents(
                 dependencyParam, allAvailableComponents
         );
 
-        dependencyParam.setComponentModels(compatibleComponent.stream()
+        final List<ComponentModel> componentModels = compatibleComponent.stream()
                 .map(ResolvedComponentDto::getActualComponentModel)
-                .collect(Collectors.toList())
-        );
+                .collect(Collectors.toList());
+        // The components of this context come first, then the ones of the parent contexts.
+        for (ResolvedComponentDto parentComponent : HandlerDependencyParam.findAllCompatibleComponents(dependencyParam, this.parentComponentModels)) {
+            componentModels.add(parentComponent.getActualComponentModel());
+        }
+        dependencyParam.setComponentModels(componentModels);
 
         return compatibleComponent.stream().map(ResolvedComponentDto::getProducerComponentModel).collect(Collectors.toList());
     }
@@ -182,6 +243,23 @@ public class DependencyResolveComponent {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * It links the dependency to the compatible component of the parent contexts, the closest parent first.
+     *
+     * @param dependencyParam - A dependency that no component of this context satisfies.
+     * @return - True if a component of a parent context was found.
+     */
+    private boolean loadParentComponent(DependencyParam dependencyParam) {
+        final List<ResolvedComponentDto> parentComponents = HandlerDependencyParam.findAllCompatibleComponents(
+                dependencyParam, this.parentComponentModels
+        );
+        if (parentComponents.isEmpty()) {
+            return false;
+        }
+        dependencyParam.setComponentModel(parentComponents.get(0).getActualComponentModel());
+        return true;
+    }
+
     private void checkForCyclicDependency(ComponentModel componentModel, LinkedList<ComponentModel> componentTrace) {
         if (!componentTrace.isEmpty()) {
             if (componentTrace.contains(componentModel)) {
@@ -257,8 +335,8 @@ public class DependencyResolveComponent {
             //service type is assignable from (concrete instance or proxy)
             // and (instanceName if not null equals service's instance name)
             final boolean isRequiredTypeAssignable = requiredType.isAssignableFrom(componentModel.getComponentType());
-            final boolean isRequiredTypeAssignable2 = componentModel.getInstance() != null &&
-                    requiredType.isAssignableFrom(componentModel.getInstance().getClass());
+            final boolean isRequiredTypeAssignable2 = componentModel.getActualInstance() != null &&
+                    requiredType.isAssignableFrom(componentModel.getActualInstance().getClass());
             final boolean instanceNameMatches = instanceName == null ||
                     instanceName.equalsIgnoreCase(componentModel.getInstanceName());
             return (isRequiredTypeAssignable || isRequiredTypeAssignable2) && instanceNameMatches;
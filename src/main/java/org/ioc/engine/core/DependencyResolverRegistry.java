@@ -0,0 +1,140 @@
+package org.ioc.engine.core;
+
+import org.ioc.engine.DependencyParam;
+import org.ioc.engine.DependencyParamCollection;
+import org.ioc.engine.DependencyParamValue;
+import org.ioc.support.DependencyResolver;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * The {@link DependencyResolver}s of a context, indexed by the types they handle, with the instances they resolved.
+ * <p>
+ * Singleton and lazy instances are cached per resolver, dependency type and qualifier, so every dependency asking for
+ * the same thing shares one instance and the resolver is called once for it.
+ */
+final class DependencyResolverRegistry {
+    private final Map<Class<?>, List<DependencyResolver>> resolversByType = new HashMap<>();
+    private final List<DependencyResolver> resolversForAnyType = new ArrayList<>();
+    private final Map<ResolutionKey, Supplier<Object>> resolvedInstances = new HashMap<>();
+
+    DependencyResolverRegistry(Collection<DependencyResolver> dependencyResolvers) {
+        for (DependencyResolver dependencyResolver : dependencyResolvers) {
+            final Set<Class<?>> resolvableTypes = dependencyResolver.getResolvableTypes();
+            if (resolvableTypes.isEmpty()) {
+                this.resolversForAnyType.add(dependencyResolver);
+            }
+            for (Class<?> resolvableType : resolvableTypes) {
+                this.resolversByType.computeIfAbsent(resolvableType, key -> new ArrayList<>()).add(dependencyResolver);
+            }
+        }
+    }
+
+    /**
+     * @return - The first resolver able to resolve the dependency, the ones registered for its type first, or null.
+     */
+    DependencyResolver getDependencyResolver(DependencyParam dependencyParam) {
+        for (DependencyResolver dependencyResolver : this.resolversByType.getOrDefault(dependencyParam.getDependencyType(), List.of())) {
+            if (dependencyResolver.canResolve(dependencyParam)) {
+                return dependencyResolver;
+            }
+        }
+        for (DependencyResolver dependencyResolver : this.resolversForAnyType) {
+            if (dependencyResolver.canResolve(dependencyParam)) {
+                return dependencyResolver;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * > It gives the instances of the resolver for the dependency, according to the scope of the resolver for it.
+     * Singletons are resolved right away.
+     *
+     * @param dependencyResolver - A resolver able to resolve the dependency.
+     * @param dependencyParam    - The dependency.
+     * @return - Gives the instance to inject.
+     */
+    Supplier<Object> getResolvedInstance(DependencyResolver dependencyResolver, DependencyParam dependencyParam) {
+        switch (dependencyResolver.getScope(dependencyParam)) {
+            case PROTOTYPE:
+                return () -> dependencyResolver.resolve(dependencyParam);
+            case LAZY:
+                return this.resolvedInstances.computeIfAbsent(new ResolutionKey(dependencyResolver, dependencyParam),
+                        key -> new LazyInstance(dependencyResolver, dependencyParam));
+            default:
+                return this.resolvedInstances.computeIfAbsent(new ResolutionKey(dependencyResolver, dependencyParam), key -> {
+                    final Object instance = dependencyResolver.resolve(dependencyParam);
+                    return () -> instance;
+                });
+        }
+    }
+
+    /**
+     * Resolves the instance on the first call, then gives the same one.
+     */
+    private static final class LazyInstance implements Supplier<Object> {
+        private final DependencyResolver dependencyResolver;
+        private final DependencyParam dependencyParam;
+        private volatile boolean resolved;
+        private Object instance;
+
+        private LazyInstance(DependencyResolver dependencyResolver, DependencyParam dependencyParam) {
+            this.dependencyResolver = dependencyResolver;
+            this.dependencyParam = dependencyParam;
+        }
+
+        @Override
+        public Object get() {
+            if (!this.resolved) {
+                synchronized (this) {
+                    if (!this.resolved) {
+                        this.instance = this.dependencyResolver.resolve(this.dependencyParam);
+                        this.resolved = true;
+                    }
+                }
+            }
+            return this.instance;
+        }
+    }
+
+    private static final class ResolutionKey {
+        private final DependencyResolver dependencyResolver;
+        private final Class<?> declaredType;
+        private final Class<?> dependencyType;
+        private final Object qualifier;
+
+        private ResolutionKey(DependencyResolver dependencyResolver, DependencyParam dependencyParam) {
+            this.dependencyResolver = dependencyResolver;
+            this.declaredType = dependencyParam instanceof DependencyParamCollection
+                    ? ((DependencyParamCollection) dependencyParam).getCollectionType()
+                    : dependencyParam.getClass();
+            this.dependencyType = dependencyParam.getDependencyType();
+            // Values are qualified by their expression and the type they are converted to.
+            this.qualifier = dependencyParam instanceof DependencyParamValue
+                    ? List.of(((DependencyParamValue) dependencyParam).getExpression(), ((DependencyParamValue) dependencyParam).getGenericType())
+                    : dependencyParam.getInstanceName();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ResolutionKey)) {
+                return false;
+            }
+            final ResolutionKey otherKey = (ResolutionKey) other;
+            return this.dependencyResolver == otherKey.dependencyResolver
+                    && this.declaredType == otherKey.declaredType
+                    && this.dependencyType == otherKey.dependencyType
+                    && Objects.equals(this.qualifier, otherKey.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(this.dependencyResolver), this.declaredType, this.dependencyType, this.qualifier);
+        }
+    }
+}
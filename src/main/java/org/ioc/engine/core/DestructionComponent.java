@@ -0,0 +1,136 @@
+package org.ioc.engine.core;
+
+import org.ioc.engine.ComponentBeanModel;
+import org.ioc.engine.ComponentModel;
+import org.ioc.engine.DependencyGraph;
+import org.ioc.engine.ScopeType;
+import org.ioc.exception.PreDestroyExecutionException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Destroys the components of a context in reverse dependency order: a component is destroyed only once every
+ * component depending on it has been destroyed, and components of independent branches are destroyed in parallel.
+ * <p>
+ * Every component gets at most the timeout to run its {@link org.ioc.stereotype.PreDestroy} method. A component that
+ * fails or times out does not stop the shutdown, its dependencies are destroyed anyway and all failures are reported
+ * together at the end.
+ */
+public class DestructionComponent {
+    private static final String TIMEOUT_FORMAT = "Pre destroy of '%s' did not finish within %d ms.";
+    private static final String FAILED_FORMAT = "Pre destroy of '%s' failed.";
+    private static final String INTERRUPTED_MSG = "Interrupted while destroying the components.";
+    private static final String THREAD_NAME_FORMAT = "ioc-destroy-%d";
+
+    private final DependencyGraph dependencyGraph;
+    private final long timeoutMillis;
+
+    /**
+     * @param dependencyGraph - The components to destroy with their dependencies.
+     * @param timeoutMillis   - Max time given to each component.
+     */
+    public DestructionComponent(DependencyGraph dependencyGraph, long timeoutMillis) {
+        this.dependencyGraph = dependencyGraph;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * > It destroys every component of the graph and waits until all of them are destroyed or timed out.
+     *
+     * @throws PreDestroyExecutionException - if any component failed or timed out, with the other failures suppressed.
+     */
+    public void destroyAll() throws PreDestroyExecutionException {
+        final List<ComponentModel> components = this.dependencyGraph.getComponents();
+        if (components.isEmpty()) {
+            return;
+        }
+        final Map<ComponentModel, AtomicInteger> remainingDependents = new HashMap<>();
+        final List<ComponentModel> withoutDependents = new ArrayList<>();
+        for (ComponentModel component : components) {
+            final int dependents = this.dependencyGraph.getDependents(component).size();
+            remainingDependents.put(component, new AtomicInteger(dependents));
+            if (dependents == 0) {
+                withoutDependents.add(component);
+            }
+        }
+        final Queue<PreDestroyExecutionException> failures = new ConcurrentLinkedQueue<>();
+        final CountDownLatch destroyed = new CountDownLatch(components.size());
+        final ExecutorService executor = Executors.newCachedThreadPool(new NamedDaemonThreadFactory(THREAD_NAME_FORMAT));
+        try {
+            for (ComponentModel component : withoutDependents) {
+                this.destroy(component, remainingDependents, failures, destroyed, executor);
+            }
+            destroyed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.add(new PreDestroyExecutionException(INTERRUPTED_MSG, e));
+        } finally {
+            executor.shutdown();
+        }
+        final Iterator<PreDestroyExecutionException> iterator = failures.iterator();
+        if (iterator.hasNext()) {
+            final PreDestroyExecutionException failure = iterator.next();
+            iterator.forEachRemaining(failure::addSuppressed);
+            throw failure;
+        }
+    }
+
+    /**
+     * Destroys the component on the executor, then schedules each of its dependencies whose dependents are all
+     * destroyed.
+     */
+    private void destroy(ComponentModel component, Map<ComponentModel, AtomicInteger> remainingDependents,
+                         Queue<PreDestroyExecutionException> failures, CountDownLatch destroyed, ExecutorService executor) {
+        CompletableFuture.runAsync(() -> destroyComponent(component), executor)
+                .orTimeout(this.timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    if (error instanceof TimeoutException) {
+                        failures.add(new PreDestroyExecutionException(String.format(
+                                TIMEOUT_FORMAT, component.getComponentType().getName(), this.timeoutMillis)));
+                    } else if (error != null) {
+                        failures.add(new PreDestroyExecutionException(String.format(
+                                FAILED_FORMAT, component.getComponentType().getName()),
+                                error instanceof CompletionException ? error.getCause() : error));
+                    }
+                    for (ComponentModel dependency : this.dependencyGraph.getDependencies(component)) {
+                        final AtomicInteger dependents = remainingDependents.get(dependency);
+                        if (dependents != null && dependents.decrementAndGet() == 0) {
+                            this.destroy(dependency, remainingDependents, failures, destroyed, executor);
+                        }
+                    }
+                    destroyed.countDown();
+                });
+    }
+
+    /**
+     * > It destroys the beans of the component, then the component itself. Pooled components also destroy their idle
+     * instances. Prototypes and scoped components are skipped, their instances are not held by the context.
+     *
+     * @param component - The component to destroy.
+     */
+    static void destroyComponent(ComponentModel component) {
+        if (component.getBeans() != null) {
+            for (ComponentBeanModel bean : component.getBeans()) {
+                destroyInstances(bean);
+            }
+        }
+        destroyInstances(component);
+    }
+
+    private static void destroyInstances(ComponentModel component) {
+        if (component.getScopeName() != null || component.getScopeType() == ScopeType.PROTOTYPE) {
+            return;
+        }
+        // An asynchronous post construct method still running must not overlap the pre destroy method.
+        component.getReadiness().exceptionally(error -> null).join();
+        if (component.getComponentPool() != null) {
+            // The pool owns the instance created at boot too, like any other instance it hands out.
+            component.getComponentPool().clear();
+            component.setInstance(null);
+        } else if (component.getActualInstance() != null) {
+            InstantiationComponentBean.HandlerInstantiation.destroyInstance(component);
+        }
+    }
+}
@@ -1,24 +1,56 @@
 package org.ioc.engine.core;
 
+import javassist.util.proxy.MethodHandler;
 import javassist.util.proxy.ProxyFactory;
 import javassist.util.proxy.ProxyObject;
+import org.ioc.configuration.InstantiationConfiguration;
 import org.ioc.engine.*;
+import org.ioc.engine.event.ComponentInstantiationEvent;
+import org.ioc.engine.event.PostConstructEvent;
+import org.ioc.engine.event.PreDestroyEvent;
 import org.ioc.exception.BeanInstantiationException;
 import org.ioc.exception.ComponentInstantiationException;
 import org.ioc.exception.PostConstructException;
 import org.ioc.exception.PreDestroyExecutionException;
+import org.ioc.stereotype.AwaitReady;
+import org.ioc.stereotype.Pooled;
+import org.ioc.stereotype.PostConstruct;
+import org.ioc.support.ComponentScope;
+import org.ioc.support.ContainerMetrics;
 
 import java.lang.reflect.*;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 
 public class InstantiationComponentBean extends InstantiateContext {
+    private static final String SCOPE_NOT_FOUND_FORMAT = "No scope registered with name '%s' for component '%s'.";
+    private static final String NOT_READY_FORMAT = "Component '%s' awaits '%s', whose post construct method failed.";
+    private static final String POST_CONSTRUCT_THREAD_NAME_FORMAT = "ioc-post-construct-%d";
+    private final InstantiationConfiguration configuration;
     private final DependencyResolveComponent dependencyResolveComponent;
+    private final StartupReport startupReport;
+    private final ContainerMetrics containerMetrics;
+    private ExecutorService ownPostConstructExecutor;
 
-    public InstantiationComponentBean(DependencyResolveComponent dependencyResolveComponent) {
+    public InstantiationComponentBean(InstantiationConfiguration configuration, DependencyResolveComponent dependencyResolveComponent) {
+        this(configuration, dependencyResolveComponent, new StartupReport());
+    }
+
+    public InstantiationComponentBean(InstantiationConfiguration configuration,
+                                      DependencyResolveComponent dependencyResolveComponent,
+                                      StartupReport startupReport) {
+        this(configuration, dependencyResolveComponent, startupReport, ContainerMetrics.NOOP);
+    }
+
+    public InstantiationComponentBean(InstantiationConfiguration configuration,
+                                      DependencyResolveComponent dependencyResolveComponent,
+                                      StartupReport startupReport,
+                                      ContainerMetrics containerMetrics) {
+        this.configuration = configuration;
         this.dependencyResolveComponent = dependencyResolveComponent;
+        this.startupReport = startupReport;
+        this.containerMetrics = containerMetrics;
     }
 
     /**
@@ -30,10 +62,30 @@ public class InstantiationComponentBean extends InstantiateContext {
      */
     @Override
     public Collection<ComponentModel> instantiateComponentAndBean(Set<ComponentModel> componentModels) throws ComponentInstantiationException {
+        final long resolutionStart = System.nanoTime();
         final List<EnqueuedComponentDetails> enqueuedComponentDetails = this.dependencyResolveComponent.resolveDependencies(componentModels);
+        final Map<ComponentModel, Integer> prototypeInjections = this.countPrototypeInjections(enqueuedComponentDetails);
+        final long instantiationStart = System.nanoTime();
+        this.startupReport.recordPhase(StartupReport.Phase.RESOLUTION, instantiationStart - resolutionStart);
         for (EnqueuedComponentDetails enqueuedComponentDetail : enqueuedComponentDetails) {
-            this.instantiateComponent(enqueuedComponentDetail);
+            final ComponentModel componentModel = enqueuedComponentDetail.getComponentModel();
+            componentModel.setContainerMetrics(this.containerMetrics);
+            componentModel.getBeans().forEach(bean -> bean.setContainerMetrics(this.containerMetrics));
         }
+        long postConstructNanos = 0L;
+        try {
+            for (EnqueuedComponentDetails enqueuedComponentDetail : enqueuedComponentDetails) {
+                postConstructNanos += this.instantiateComponent(enqueuedComponentDetail, prototypeInjections);
+            }
+        } finally {
+            if (this.ownPostConstructExecutor != null) {
+                // The asynchronous post construct methods already scheduled still run.
+                this.ownPostConstructExecutor.shutdown();
+                this.ownPostConstructExecutor = null;
+            }
+        }
+        this.startupReport.recordPhase(StartupReport.Phase.INSTANTIATION, System.nanoTime() - instantiationStart - postConstructNanos);
+        this.startupReport.recordPhase(StartupReport.Phase.POST_CONSTRUCT, postConstructNanos);
         final List<ComponentModel> allComponentsAndBean = new ArrayList<>();
         componentModels.forEach(
                 componentModel -> {
@@ -49,19 +101,164 @@ public class InstantiationComponentBean extends InstantiateContext {
      *
      * @param enqueuedComponentDetail - This is the object that contains all the information about the component that is
      * being instantiated.
+     * @return - The time spent in the post construct method of the component.
      */
-    private void instantiateComponent(EnqueuedComponentDetails enqueuedComponentDetail) {
+    private long instantiateComponent(EnqueuedComponentDetails enqueuedComponentDetail, Map<ComponentModel, Integer> prototypeInjections) {
         final ComponentModel componentModel=  enqueuedComponentDetail.getComponentModel();
-        final Object[] constructorInstances = enqueuedComponentDetail.getConstructorInstances();
-        final Object[] fieldInstances = enqueuedComponentDetail.getFieldInstances();
-        if (enqueuedComponentDetail.getComponentModel().getInstance() == null) {
-            HandlerInstantiation.createInstance(componentModel, constructorInstances, fieldInstances);
+        long postConstructNanos = 0L;
+        awaitReadiness(enqueuedComponentDetail);
+        if (componentModel.getScopeName() != null) {
+            // Scoped components are only created when a scope asks for them, dependents get a proxy instead.
+            this.registerResolvedDependencies(enqueuedComponentDetail);
+            ProxyUtils.createScopedProxyInstance(componentModel, this.resolveComponentScope(componentModel),
+                    enqueuedComponentDetail.getConstructorInstances());
+        } else if (componentModel.getScopeType() == ScopeType.PROTOTYPE && componentModel.getActualInstance() == null) {
+            this.registerResolvedDependencies(enqueuedComponentDetail);
+            final ComponentInstantiationEvent event = new ComponentInstantiationEvent();
+            event.begin();
+            final long start = System.nanoTime();
+            final int instances = HandlerInstantiation.createPrototypeInstances(componentModel, prototypeInjections.getOrDefault(componentModel, 0));
+            this.startupReport.recordComponent(componentModel, System.nanoTime() - start, 0L);
+            commitInstantiationEvent(event, componentModel, instances);
+        } else {
+            final Object[] constructorInstances = enqueuedComponentDetail.getConstructorInstances();
+            final Object[] fieldInstances = enqueuedComponentDetail.getFieldInstances();
+            final boolean instantiated = enqueuedComponentDetail.getComponentModel().getInstance() == null;
+            if (instantiated) {
+                final ComponentInstantiationEvent event = new ComponentInstantiationEvent();
+                event.begin();
+                final long start = System.nanoTime();
+                final Object instance = HandlerInstantiation.constructInstance(componentModel, constructorInstances, fieldInstances);
+                final long constructed = System.nanoTime();
+                if (HandlerInstantiation.isAsyncPostConstruct(componentModel)) {
+                    componentModel.setReadiness(HandlerInstantiation.invokePostConstruct(
+                            componentModel, instance, this.getPostConstructExecutor()));
+                } else {
+                    HandlerInstantiation.invokePostConstruct(componentModel, instance);
+                    postConstructNanos = System.nanoTime() - constructed;
+                }
+                componentModel.setInstance(instance);
+                componentModel.getContainerMetrics().onInstanceCreated(componentModel);
+                this.startupReport.recordComponent(componentModel, constructed - start, postConstructNanos);
+                commitInstantiationEvent(event, componentModel, 1);
+            }
+            if (componentModel.getScopeType() == ScopeType.PROXY) {
+                ProxyUtils.createProxyInstance(componentModel, constructorInstances);
+            }
+            this.registerResolvedDependencies(enqueuedComponentDetail);
+            if (instantiated && componentModel.getComponentPool() != null) {
+                // The instance created at boot is the first idle instance of the pool.
+                componentModel.getComponentPool().seed(componentModel.getActualInstance());
+            }
+        }
+        this.registerBeans(componentModel, prototypeInjections);
+        return postConstructNanos;
+    }
+
+    /**
+     * Waits until the dependencies annotated with {@link AwaitReady} have completed their asynchronous post construct
+     * method.
+     *
+     * @param enqueuedComponentDetail - The component about to be instantiated.
+     */
+    private static void awaitReadiness(EnqueuedComponentDetails enqueuedComponentDetail) {
+        final List<DependencyParam> dependencyParams = new ArrayList<>(enqueuedComponentDetail.getConstructorParams());
+        dependencyParams.addAll(enqueuedComponentDetail.getFieldDependencies());
+        for (DependencyParam dependencyParam : dependencyParams) {
+            if (!LoaderComponent.HandlerAnnotation.isAnnotationPresent(dependencyParam.getAnnotations(), AwaitReady.class)) {
+                continue;
+            }
+            final List<ComponentModel> dependencies = dependencyParam instanceof DependencyParamCollection
+                    ? ((DependencyParamCollection) dependencyParam).getComponentModels()
+                    : Collections.singletonList(dependencyParam.getComponentModel());
+            for (ComponentModel dependency : dependencies) {
+                if (dependency == null) {
+                    continue;
+                }
+                try {
+                    dependency.getReadiness().join();
+                } catch (CompletionException e) {
+                    throw new ComponentInstantiationException(String.format(NOT_READY_FORMAT,
+                            enqueuedComponentDetail.getComponentModel().getComponentType().getName(),
+                            dependency.getComponentType().getName()), e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return - The configured post construct executor, or daemon threads of the container shut down once the
+     * components are instantiated.
+     */
+    private Executor getPostConstructExecutor() {
+        if (this.configuration.getPostConstructExecutor() != null) {
+            return this.configuration.getPostConstructExecutor();
+        }
+        if (this.ownPostConstructExecutor == null) {
+            this.ownPostConstructExecutor = Executors.newCachedThreadPool(new NamedDaemonThreadFactory(POST_CONSTRUCT_THREAD_NAME_FORMAT));
+        }
+        return this.ownPostConstructExecutor;
+    }
+
+    private static void commitInstantiationEvent(ComponentInstantiationEvent event, ComponentModel componentModel, int instances) {
+        if (event.shouldCommit()) {
+            event.componentType = componentModel.getComponentType();
+            event.instanceName = componentModel.getInstanceName();
+            event.scope = componentModel.getScopeType().name();
+            event.instances = instances;
+            event.commit();
         }
-        if (componentModel.getScopeType() == ScopeType.PROXY) {
-            ProxyUtils.createProxyInstance(componentModel, enqueuedComponentDetail.getConstructorInstances());
+    }
+
+    /**
+     * > It counts, for every prototype component and bean, how many constructor params and fields it is injected into,
+     * so that all these instances can be created in one batch when the prototype is instantiated.
+     *
+     * @param enqueuedComponentDetails - All components sorted by their dependencies.
+     * @return - The number of injection points of each prototype.
+     */
+    private Map<ComponentModel, Integer> countPrototypeInjections(List<EnqueuedComponentDetails> enqueuedComponentDetails) {
+        final Map<ComponentModel, Integer> prototypeInjections = new IdentityHashMap<>();
+        for (EnqueuedComponentDetails enqueuedComponentDetail : enqueuedComponentDetails) {
+            final List<DependencyParam> dependencyParams = new ArrayList<>(enqueuedComponentDetail.getConstructorParams());
+            dependencyParams.addAll(enqueuedComponentDetail.getFieldDependencies());
+            for (DependencyParam dependencyParam : dependencyParams) {
+                if (dependencyParam instanceof DependencyParamProvider) {
+                    // A provider creates its instances when it is called, not when it is injected.
+                    continue;
+                }
+                final List<ComponentModel> injectedComponents = dependencyParam instanceof DependencyParamCollection
+                        ? ((DependencyParamCollection) dependencyParam).getComponentModels()
+                        : Collections.singletonList(dependencyParam.getComponentModel());
+                if (injectedComponents == null) {
+                    continue;
+                }
+                for (ComponentModel injectedComponent : injectedComponents) {
+                    if (injectedComponent != null && injectedComponent.getScopeType() == ScopeType.PROTOTYPE) {
+                        prototypeInjections.merge(injectedComponent, 1, Integer::sum);
+                    }
+                }
+            }
         }
-        this.registerResolvedDependencies(enqueuedComponentDetail);
-        this.registerBeans(componentModel);
+        return prototypeInjections;
+    }
+
+    /**
+     * It finds the registered {@link ComponentScope} of a thread or custom scoped component or bean
+     *
+     * @param componentModel - The scoped component
+     * @return - The scope of the component
+     */
+    private ComponentScope resolveComponentScope(ComponentModel componentModel) {
+        final ComponentScope componentScope = this.configuration.getComponentScopes().get(componentModel.getScopeName());
+        if (componentScope == null) {
+            throw new ComponentInstantiationException(String.format(
+                    SCOPE_NOT_FOUND_FORMAT, componentModel.getScopeName(), componentModel.getComponentType().getName()
+            ));
+        }
+        componentModel.setComponentScope(componentScope);
+        componentModel.setScopeIndex(this.configuration.nextScopeIndex());
+        return componentScope;
     }
 
     /**
@@ -70,17 +267,39 @@ public class InstantiationComponentBean extends InstantiateContext {
      *
      * @param componentModel The component model that contains the bean model.
      */
-    private void registerBeans(ComponentModel componentModel) {
+    private void registerBeans(ComponentModel componentModel, Map<ComponentModel, Integer> prototypeInjections) {
         for (ComponentBeanModel bean : componentModel.getBeans()) {
+            if (bean.getScopeName() != null) {
+                ProxyUtils.createScopedBeanProxyInstance(bean, this.resolveComponentScope(bean));
+                continue;
+            }
+            final ComponentInstantiationEvent event = new ComponentInstantiationEvent();
+            event.begin();
+            final long start = System.nanoTime();
+            if (bean.getScopeType() == ScopeType.PROTOTYPE) {
+                final int instances = HandlerInstantiation.createPrototypeInstances(bean, prototypeInjections.getOrDefault(bean, 0));
+                this.startupReport.recordComponent(bean, System.nanoTime() - start, 0L);
+                commitInstantiationEvent(event, bean, instances);
+                continue;
+            }
             HandlerInstantiation.createBeanInstance(bean);
+            this.startupReport.recordComponent(bean, System.nanoTime() - start, 0L);
+            commitInstantiationEvent(event, bean, 1);
             if (bean.getScopeType() == ScopeType.PROXY) {
                 ProxyUtils.createBeanProxyInstance(bean);
             }
+            if (bean.getScopeType() == ScopeType.POOLED) {
+                bean.setComponentPool(PoolUtils.createPool(bean, bean.getOriginMethod().getAnnotation(Pooled.class),
+                        () -> HandlerInstantiation.createNewInstance(bean)));
+                // The instance created at boot is the first idle instance of the pool.
+                bean.getComponentPool().seed(bean.getActualInstance());
+            }
         }
     }
 
     /**
-     * > It sets the resolved constructor parameters and resolved fields of the component model
+     * > It sets the resolved constructor parameters and resolved fields of the component model. Prototypes also get a
+     * compiled factory, so that every new instance is created without going through reflection again.
      *
      * @param enqueuedComponentDetail This is the component that we are currently resolving.
      */
@@ -88,12 +307,40 @@ public class InstantiationComponentBean extends InstantiateContext {
         final ComponentModel componentModel = enqueuedComponentDetail.getComponentModel();
         componentModel.setResolvedConstructorParams(enqueuedComponentDetail.getConstructorParams());
         componentModel.setResolvedFields(enqueuedComponentDetail.getFieldDependencies());
+        if (componentModel.getScopeType() != ScopeType.SINGLETON && componentModel.getScopeType() != ScopeType.PROXY) {
+            componentModel.setComponentFactory(CompiledComponentFactory.compile(componentModel));
+        }
+        if (componentModel.getScopeType() == ScopeType.POOLED) {
+            componentModel.setComponentPool(PoolUtils.createPool(
+                    componentModel,
+                    componentModel.getComponentType().getAnnotation(Pooled.class),
+                    () -> HandlerInstantiation.createNewInstance(componentModel)
+            ));
+        }
+    }
+
+    /**
+     * It creates the pool of a {@link ScopeType#POOLED} component or bean
+     */
+    static class PoolUtils {
+        private static final int DEFAULT_MAX_IDLE = 8;
+        private static final long DEFAULT_MAX_IDLE_MILLIS = 60_000L;
+
+        public static ComponentPool createPool(ComponentModel componentModel, Pooled pooled, Supplier<Object> instanceFactory) {
+            final int maxIdle = pooled != null ? pooled.maxIdle() : DEFAULT_MAX_IDLE;
+            final long maxIdleMillis = pooled != null ? pooled.maxIdleMillis() : DEFAULT_MAX_IDLE_MILLIS;
+            return new ComponentPool(componentModel, instanceFactory, maxIdle, maxIdleMillis);
+        }
     }
     /**
      * It creates a proxy instance for a component model
      */
     static class ProxyUtils {
         public static void createProxyInstance(ComponentModel componentModel, Object[] constructorParams) {
+            createProxyInstance(componentModel, constructorParams, new MethodInvocationHandler(componentModel));
+        }
+
+        private static void createProxyInstance(ComponentModel componentModel, Object[] constructorParams, MethodHandler methodHandler) {
             final ProxyFactory proxyFactory = new ProxyFactory();
             proxyFactory.setSuperclass(componentModel.getComponentType());
             Object proxyInstance;
@@ -103,17 +350,52 @@ public class InstantiationComponentBean extends InstantiateContext {
                 throw new RuntimeException(e);
             }
 
-            ((ProxyObject) proxyInstance).setHandler(new MethodInvocationHandler(componentModel));
+            ((ProxyObject) proxyInstance).setHandler(methodHandler);
             componentModel.setProxyInstance(proxyInstance);
         }
 
+        /**
+         * It creates the proxy given to dependents of a thread or custom scoped component. The proxy delegates every
+         * call to the instance of the active scope.
+         */
+        public static void createScopedProxyInstance(ComponentModel componentModel, ComponentScope componentScope, Object[] constructorParams) {
+            createProxyInstance(componentModel, constructorParams, new ScopedInstanceHandler(
+                    componentModel, componentScope, () -> HandlerInstantiation.createNewInstance(componentModel)
+            ));
+        }
+
+        /**
+         * It creates the proxy given to dependents of a thread or custom scoped bean. Interfaces get a JDK proxy,
+         * other types a subclass created with their no-args constructor.
+         */
+        public static void createScopedBeanProxyInstance(ComponentBeanModel bean, ComponentScope componentScope) {
+            final ScopedInstanceHandler handler = new ScopedInstanceHandler(
+                    bean, componentScope, () -> HandlerInstantiation.createNewInstance(bean)
+            );
+            if (bean.getComponentType().isInterface()) {
+                bean.setProxyInstance(Proxy.newProxyInstance(
+                        bean.getComponentType().getClassLoader(), new Class<?>[]{bean.getComponentType()}, handler
+                ));
+                return;
+            }
+            final ProxyFactory proxyFactory = new ProxyFactory();
+            proxyFactory.setSuperclass(bean.getComponentType());
+            try {
+                final Object proxyInstance = proxyFactory.create(new Class<?>[0], new Object[0]);
+                ((ProxyObject) proxyInstance).setHandler(handler);
+                bean.setProxyInstance(proxyInstance);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+                throw new BeanInstantiationException(e.getMessage(), e);
+            }
+        }
+
         public static void createBeanProxyInstance(ComponentModel componentModel) {
             if (!componentModel.getComponentType().isInterface()) {
                 return;
             }
             final Object proxyInstance = Proxy.newProxyInstance(
                     componentModel.getComponentType().getClassLoader(),
-                    new Class[]{componentModel.getComponentType()},
+                    new Class<?>[]{componentModel.getComponentType()},
                     new InvocationHandlerImpl(componentModel));
             componentModel.setProxyInstance(proxyInstance);
         }
@@ -129,7 +411,33 @@ public class InstantiationComponentBean extends InstantiateContext {
             componentModel.setInstance(createNewInstance(componentModel));
         }
 
+        /**
+         * It creates, in one batch, the instances of a prototype component or bean needed at boot: one for each
+         * injection point, and at least one. The first one becomes the instance of the component, and all of them are
+         * handed out in order by {@link ComponentModel#getInstance()} before any new instance is created.
+         *
+         * @param componentModel - The prototype component or bean.
+         * @param injections     - The number of constructor params and fields the prototype is injected into.
+         * @return - The number of created instances.
+         */
+        public static int createPrototypeInstances(ComponentModel componentModel, int injections) {
+            final Object[] instances = new Object[Math.max(injections, 1)];
+            for (int i = 0; i < instances.length; i++) {
+                instances[i] = componentModel instanceof ComponentBeanModel
+                        ? createNewInstance((ComponentBeanModel) componentModel)
+                        : createNewInstance(componentModel);
+            }
+            componentModel.setInstance(instances[0]);
+            componentModel.setPendingInstances(instances);
+            return instances.length;
+        }
+
         public static Object createNewInstance(ComponentModel componentModel) {
+            componentModel.getContainerMetrics().onInstanceCreated(componentModel);
+            final CompiledComponentFactory componentFactory = componentModel.getComponentFactory();
+            if (componentFactory != null) {
+                return componentFactory.create();
+            }
             final Object[] constructorParams = componentModel.getResolvedConstructorParams().stream().map(DependencyParam::getInstance).toArray(Object[]::new);
             final Object[] fieldParams = componentModel.getResolvedFields().stream().map(DependencyParam::getInstance).toArray(Object[]::new);
             return createNewInstance(componentModel, constructorParams, fieldParams);
@@ -145,6 +453,7 @@ public class InstantiationComponentBean extends InstantiateContext {
          *                                 component.
          */
         public static void createInstance(ComponentModel componentModel, Object[] constructorInstances, Object[] autowiredFieldInstances) {
+            componentModel.getContainerMetrics().onInstanceCreated(componentModel);
             componentModel.setInstance(createNewInstance(componentModel, constructorInstances, autowiredFieldInstances));
         }
 
@@ -157,15 +466,28 @@ public class InstantiationComponentBean extends InstantiateContext {
          * @return - An instance of the class that is being created.
          */
         private static Object createNewInstance(ComponentModel componentModel, Object[] constructorParams, Object[] autowiredFieldInstances) {
+            final Object instance = constructInstance(componentModel, constructorParams, autowiredFieldInstances);
+            invokePostConstruct(componentModel, instance);
+            return instance;
+        }
+
+        /**
+         * It calls the constructor of the component with the given parameters and injects the autowired fields, without
+         * invoking the post construct method.
+         *
+         * @param componentModel          - The component model of the component to be instantiated.
+         * @param constructorParams       - the parameters that will be passed to the constructor of the component
+         * @param autowiredFieldInstances - This is an array of instances of the fields that are annotated with @Autowired.
+         * @return - An instance of the class that is being created.
+         */
+        public static Object constructInstance(ComponentModel componentModel, Object[] constructorParams, Object[] autowiredFieldInstances) {
             final Constructor<?> constructor = componentModel.getTargetConstructor();
             if (constructor.getParameterCount() != constructorParams.length) {
                 throw new ComponentInstantiationException(String.format(INVALID_PARAMETERS_COUNT_MSG, componentModel.getComponentType().getName()));
             } else {
                 try {
                     final Object instance = constructor.newInstance(constructorParams);
-                    componentModel.setInstance(instance);
                     setAutowiredFieldInstances(componentModel, autowiredFieldInstances, instance);
-                    invokePostConstruct(componentModel, instance);
                     return instance;
                 } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
                     throw new RuntimeException(e.getMessage(), e);
@@ -193,23 +515,72 @@ public class InstantiationComponentBean extends InstantiateContext {
          * @param componentModel - This is the component model that we created in the previous step.
          * @param instance       -  The instance of the component that is being created.
          */
-        private static void invokePostConstruct(ComponentModel componentModel, Object instance) {
+        public static void invokePostConstruct(ComponentModel componentModel, Object instance) {
             if (componentModel.getPostConstructMethod() != null) {
+                final PostConstructEvent event = new PostConstructEvent();
+                event.begin();
                 try {
                     componentModel.getPostConstructMethod().invoke(instance);
                 } catch (IllegalAccessException | InvocationTargetException e) {
                     throw new PostConstructException(e.getMessage(), e);
                 }
+                if (event.shouldCommit()) {
+                    event.componentType = componentModel.getComponentType();
+                    event.method = componentModel.getPostConstructMethod().getName();
+                    event.commit();
+                }
             }
         }
 
+        /**
+         * @return - True if the component is a singleton, proxied or not, whose post construct method is declared with
+         * {@code async = true}. The instances of other scopes are handed out as soon as they are created, so their
+         * post construct method always runs right away.
+         */
+        public static boolean isAsyncPostConstruct(ComponentModel componentModel) {
+            final Method postConstructMethod = componentModel.getPostConstructMethod();
+            if (postConstructMethod == null || componentModel.getScopeName() != null
+                    || componentModel.getScopeType() != ScopeType.SINGLETON && componentModel.getScopeType() != ScopeType.PROXY) {
+                return false;
+            }
+            final PostConstruct postConstruct = postConstructMethod.getAnnotation(PostConstruct.class);
+            return postConstruct != null && postConstruct.async();
+        }
+
+        /**
+         * It invokes the post construct method on the executor if it is asynchronous, right away otherwise.
+         *
+         * @param componentModel - The component model of the instance.
+         * @param instance       - The instance of the component that is being created.
+         * @param executor       - Runs asynchronous post construct methods.
+         * @return - A future completed once the post construct method has run.
+         */
+        public static CompletableFuture<Void> invokePostConstruct(ComponentModel componentModel, Object instance, Executor executor) {
+            if (!isAsyncPostConstruct(componentModel)) {
+                invokePostConstruct(componentModel, instance);
+                return CompletableFuture.completedFuture(null);
+            }
+            return CompletableFuture.runAsync(() -> invokePostConstruct(componentModel, instance), executor);
+        }
+
         public static void createBeanInstance(ComponentBeanModel bean) {
             bean.setInstance(createNewInstance(bean));
         }
 
         public static Object createNewInstance(ComponentBeanModel bean) {
+            return createNewInstance(bean, bean.getRootComponent().getInstance());
+        }
+
+        /**
+         * It calls the method of the bean on the given instance of its root component.
+         *
+         * @param bean         - The bean to create.
+         * @param rootInstance - The instance of the component declaring the bean.
+         * @return - The new instance of the bean.
+         */
+        public static Object createNewInstance(ComponentBeanModel bean, Object rootInstance) {
+            bean.getContainerMetrics().onInstanceCreated(bean);
             final Method originMethod = bean.getOriginMethod();
-            final Object rootInstance = bean.getRootComponent().getInstance();
             try {
                 return originMethod.invoke(rootInstance);
             } catch (InvocationTargetException | IllegalAccessException e) {
@@ -223,14 +594,32 @@ public class InstantiationComponentBean extends InstantiateContext {
          * @param component The component model that contains the instance to be destroyed.
          */
         public static void destroyInstance(ComponentModel component) throws PreDestroyExecutionException {
-            if (component.getPreDestroyMethod() != null) {
+            destroyInstance(component, component.getActualInstance());
+            component.setInstance(null);
+        }
+
+        /**
+         * If the component has a pre-destroy method, invoke it on the given instance. Used for instances that are not
+         * held by the component itself, like the idle instances of a pool.
+         *
+         * @param component The component model the instance belongs to.
+         * @param instance  The instance to be destroyed.
+         */
+        public static void destroyInstance(ComponentModel component, Object instance) throws PreDestroyExecutionException {
+            if (component.getPreDestroyMethod() != null && instance != null) {
+                final PreDestroyEvent event = new PreDestroyEvent();
+                event.begin();
                 try {
-                    component.getPreDestroyMethod().invoke(component.getActualInstance());
+                    component.getPreDestroyMethod().invoke(instance);
                 } catch (InvocationTargetException | IllegalAccessException e) {
                     throw new PreDestroyExecutionException(e.getMessage(), e);
                 }
+                if (event.shouldCommit()) {
+                    event.componentType = component.getComponentType();
+                    event.method = component.getPreDestroyMethod().getName();
+                    event.commit();
+                }
             }
-            component.setInstance(null);
         }
     }
 }
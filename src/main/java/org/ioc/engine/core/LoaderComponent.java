@@ -1,6 +1,7 @@
 package org.ioc.engine.core;
 
 import org.ioc.configuration.ScanningConfiguration;
+import org.ioc.contex.enviroment.Environment;
 import org.ioc.engine.*;
 import org.ioc.exception.ClassLocationException;
 import org.ioc.stereotype.*;
@@ -17,9 +18,47 @@ import java.util.*;
  */
 public class LoaderComponent extends SettingComponent {
     private final ScanningConfiguration scanningConfiguration;
+    private final StartupReport startupReport;
+    private static final String ACTIVE_PROFILES_PROPERTY = "ioc.profiles.active";
+    private static final String DEFAULT_PROFILE = "default";
+
+    private final ConditionComponent conditionComponent;
+    private final Set<String> activeProfiles;
+    private final List<ComponentModel> existingComponents;
 
     public LoaderComponent(ScanningConfiguration scanningConfiguration) {
+        this(scanningConfiguration, new StartupReport());
+    }
+
+    public LoaderComponent(ScanningConfiguration scanningConfiguration, StartupReport startupReport) {
+        this(scanningConfiguration, startupReport, Environment.load(
+                scanningConfiguration.and().instantiations().getPropertySources(), scanningConfiguration.getClassLoader()));
+    }
+
+    /**
+     * @param scanningConfiguration - The scanning configuration.
+     * @param startupReport         - The report the time of the phases is recorded in.
+     * @param environment           - The properties the conditions of the components are evaluated against.
+     */
+    public LoaderComponent(ScanningConfiguration scanningConfiguration, StartupReport startupReport, Environment environment) {
+        this(scanningConfiguration, startupReport, environment, Collections.emptyList());
+    }
+
+    /**
+     * @param scanningConfiguration - The scanning configuration.
+     * @param startupReport         - The report the time of the phases is recorded in.
+     * @param environment           - The properties the conditions of the components are evaluated against.
+     * @param parentComponents      - The components of the parent contexts, which satisfy
+     *                              {@link org.ioc.stereotype.ConditionalOnMissingBean} like the provided components.
+     */
+    public LoaderComponent(ScanningConfiguration scanningConfiguration, StartupReport startupReport, Environment environment,
+                           Collection<ComponentModel> parentComponents) {
         this.scanningConfiguration = scanningConfiguration;
+        this.existingComponents = new ArrayList<>(scanningConfiguration.and().instantiations().getProvidedComponentModels());
+        this.existingComponents.addAll(parentComponents);
+        this.startupReport = startupReport;
+        this.activeProfiles = getActiveProfiles(scanningConfiguration, environment);
+        this.conditionComponent = new ConditionComponent(environment, scanningConfiguration.getClassLoader(), this.activeProfiles);
         this.init();
     }
 
@@ -40,7 +79,10 @@ public class LoaderComponent extends SettingComponent {
      */
     @Override
     public Set<ComponentModel> mappingComponent(Set<Class<?>> locatedClass) {
+        final long filterStart = System.nanoTime();
         final Map<Class<?>, Annotation> onlyForComponentClass = this.filterComponentClasses(locatedClass);
+        final long mappingStart = System.nanoTime();
+        this.startupReport.recordPhase(StartupReport.Phase.FILTER, mappingStart - filterStart);
         final Set<ComponentModel> componentStorage = new HashSet<>();
         final Map<Class<? extends Annotation>, ComponentModel> aspectHandlerServices = new HashMap<>();
 
@@ -51,10 +93,56 @@ public class LoaderComponent extends SettingComponent {
             this.notifyComponentDetailsCreated(componentModel);
             componentStorage.add(componentModel);
         }
+        final long aspectsStart = System.nanoTime();
+        this.startupReport.recordPhase(StartupReport.Phase.MAPPING, aspectsStart - mappingStart);
         this.applyAspectHandlerComponents(aspectHandlerServices, componentStorage);
+        this.startupReport.recordPhase(StartupReport.Phase.ASPECTS, System.nanoTime() - aspectsStart);
         return componentStorage;
     }
 
+    /**
+     * @return - The profiles whose components are registered.
+     */
+    public Set<String> getActiveProfiles() {
+        return this.activeProfiles;
+    }
+
+    /**
+     * > It selects the located classes that are components of the active profiles, whatever their other conditions,
+     * which depend on the properties and the class path of every run.
+     *
+     * @param locatedClasses - All classes located in the project.
+     * @return - The component classes of the active profiles.
+     */
+    public Set<Class<?>> getProfileComponentClasses(Set<Class<?>> locatedClasses) {
+        final Set<Class<?>> componentClasses = new HashSet<>();
+        for (Class<?> cls : locatedClasses) {
+            if (this.getComponentAnnotation(cls) != null && this.conditionComponent.matchesProfile(cls)) {
+                componentClasses.add(cls);
+            }
+        }
+        return componentClasses;
+    }
+
+    /**
+     * The profiles of the configuration, else the ones of the property {@code ioc.profiles.active}, else the default.
+     */
+    private static Set<String> getActiveProfiles(ScanningConfiguration scanningConfiguration, Environment environment) {
+        if (!scanningConfiguration.getActiveProfiles().isEmpty()) {
+            return Set.copyOf(scanningConfiguration.getActiveProfiles());
+        }
+        final String property = environment.getProperty(ACTIVE_PROFILES_PROPERTY);
+        final Set<String> activeProfiles = new HashSet<>();
+        if (property != null) {
+            for (String profile : property.split(",")) {
+                if (!profile.isBlank()) {
+                    activeProfiles.add(profile.trim());
+                }
+            }
+        }
+        return activeProfiles.isEmpty() ? Set.of(DEFAULT_PROFILE) : Set.copyOf(activeProfiles);
+    }
+
     /**
      * It takes a class and an annotation and returns a ComponentModel object
      *
@@ -71,32 +159,34 @@ public class LoaderComponent extends SettingComponent {
         Method preDestroyMethod = this.handlerVoidMethodWithZeroParamsAndAnnotations(clsComponent, PreDestroy.class);
         ScopeType scopeType = this.handlerScopeType(clsComponent);
         List<Field> fieldWithAutowired = this.handlerFieldWithAutowired(clsComponent, new ArrayList<>());
-        return new ComponentModel(
+        final ComponentModel componentModel = new ComponentModel(
                 clsComponent, annotationComponent,
                 constructor, nameInstance,
                 postConstructMethod, preDestroyMethod,
                 scopeType, fieldWithAutowired.toArray(new Field[0]));
+        if (scopeType == ScopeType.POOLED) {
+            componentModel.setPoolResetMethod(this.handlerVoidMethodWithZeroParamsAndAnnotations(clsComponent, PoolReset.class));
+        }
+        componentModel.setScopeName(this.handlerScopeName(clsComponent.getDeclaredAnnotation(Scope.class)));
+        return componentModel;
     }
 
     /**
      * Filter all classes that located in the project. Convert them to {@link Map} with the key is a class and value is the annotation @{@link Component}
-     * for this class.
+     * for this class. Classes whose conditions do not match are left out.
+     *
+     * @see ConditionComponent
      *
      * @param scannedClasses All classes scanned
      * @return Classes with annotation
      */
     private Map<Class<?>, Annotation> filterComponentClasses(Set<Class<?>> scannedClasses) {
-        final Set<Class<? extends Annotation>> availableComponents = this.scanningConfiguration.getComponentAnnotations();
         final Map<Class<?>, Annotation> classWithComponent = new HashMap<>();
         // Get all classes that contain @Component.
         for (Class<?> cls : scannedClasses) {
-            if (!cls.isInterface() && !cls.isEnum() && !cls.isAnnotation()) {
-                for (Annotation annotation : cls.getAnnotations()) {
-                    if (availableComponents.contains(annotation.annotationType())) {
-                        classWithComponent.put(cls, annotation);
-                        break;
-                    }
-                }
+            final Annotation annotation = this.getComponentAnnotation(cls);
+            if (annotation != null && this.conditionComponent.matches(cls)) {
+                classWithComponent.put(cls, annotation);
             }
         }
         // Getting classes from scanning configs.
@@ -105,6 +195,9 @@ public class LoaderComponent extends SettingComponent {
             Annotation annotation = null;
             Class<?> cls = entry.getKey();
             Class<? extends Annotation> annotationCls = entry.getValue();
+            if (!this.conditionComponent.matches(cls)) {
+                continue;
+            }
             if (annotationCls != null && cls.isAnnotationPresent(annotationCls)) {
                 annotation = cls.getAnnotation(annotationCls);
             }
@@ -118,9 +211,27 @@ public class LoaderComponent extends SettingComponent {
 //                    }
 //                    classWithComponent.put(cls, annotation);
 //                });
+        this.conditionComponent.removeMissingBeanConflicts(
+                classWithComponent, this.scanningConfiguration.getBeanAnnotations(), this.existingComponents);
         return classWithComponent;
     }
 
+    /**
+     * @return - The component annotation of the class, or null if the class is not a component.
+     */
+    private Annotation getComponentAnnotation(Class<?> cls) {
+        if (cls.isInterface() || cls.isEnum() || cls.isAnnotation()) {
+            return null;
+        }
+        final Set<Class<? extends Annotation>> availableComponents = this.scanningConfiguration.getComponentAnnotations();
+        for (Annotation annotation : cls.getAnnotations()) {
+            if (availableComponents.contains(annotation.annotationType())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
     /**
      * Find a suitable constructor with annotation {@link Autowired}. There are one special case that need to check.
      * In case is not used @{@link Autowired}, there are {@link AliasFor} annotation instead.
@@ -209,15 +320,32 @@ public class LoaderComponent extends SettingComponent {
     }
 
     /**
-     * Handler all field of a specified class with @{@link Autowired}
+     * Find the name of the {@link org.ioc.support.ComponentScope} for thread and custom scoped components
+     *
+     * @param scope - The @{@link Scope} of the component or bean, if any
+     * @return - Name of the scope or null if the scope is not thread or custom
+     */
+    private String handlerScopeName(Scope scope) {
+        if (scope == null) {
+            return null;
+        }
+        if (scope.value() == ScopeType.THREAD) {
+            return ScopeType.THREAD_SCOPE_NAME;
+        }
+        return scope.value() == ScopeType.CUSTOM ? scope.name() : null;
+    }
+
+    /**
+     * Handler all field of a specified class with @{@link Autowired} or @{@link Value}
      *
-     * @param clsComponent - Class that want to find field with @{@link Autowired}
+     * @param clsComponent - Class that want to find field with @{@link Autowired} or @{@link Value}
      * @param fields       - Store all fields
      * @return - List of field
      */
     private List<Field> handlerFieldWithAutowired(Class<?> clsComponent, List<Field> fields) {
         for (Field field : clsComponent.getDeclaredFields()) {
-            if (HandlerAnnotation.isAnnotationPresent(field.getDeclaredAnnotations(), Autowired.class)) {
+            if (HandlerAnnotation.isAnnotationPresent(field.getDeclaredAnnotations(), Autowired.class)
+                    || HandlerAnnotation.isAnnotationPresent(field.getDeclaredAnnotations(), Value.class)) {
                 field.setAccessible(true);
                 fields.add(field);
             }
@@ -315,14 +443,19 @@ public class LoaderComponent extends SettingComponent {
                 for (Class<? extends Annotation> beanAnnotation : beanAnnotations) {
                     if (HandlerAnnotation.isAnnotationPresent(annotations, beanAnnotation)) {
                         method.setAccessible(true);
-                        beans.add(new ComponentBeanModel(
+                        final ComponentBeanModel bean = new ComponentBeanModel(
                                 method.getReturnType(),
                                 method,
                                 componentModel,
                                 HandlerAnnotation.getAnnotation(annotations, beanAnnotation),
                                 this.handlerScopeType(method),
                                 this.handlerNameInstance(method.getDeclaredAnnotations())
-                        ));
+                        );
+                        bean.setScopeName(this.handlerScopeName(method.getDeclaredAnnotation(Scope.class)));
+                        if (bean.getScopeType() == ScopeType.POOLED) {
+                            bean.setPoolResetMethod(this.handlerVoidMethodWithZeroParamsAndAnnotations(method.getReturnType(), PoolReset.class));
+                        }
+                        beans.add(bean);
                         break;
                     }
                 }
@@ -0,0 +1,26 @@
+package org.ioc.engine.core;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the daemon threads of the container's short-lived executors, numbered after the given format.
+ */
+final class NamedDaemonThreadFactory implements ThreadFactory {
+    private final String nameFormat;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * @param nameFormat - Format of the thread names, with one %d for the thread number.
+     */
+    NamedDaemonThreadFactory(String nameFormat) {
+        this.nameFormat = nameFormat;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, String.format(this.nameFormat, this.threadCount.incrementAndGet()));
+        thread.setDaemon(true);
+        return thread;
+    }
+}
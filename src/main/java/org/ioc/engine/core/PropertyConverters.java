@@ -0,0 +1,296 @@
+package org.ioc.engine.core;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Converters of property values to the types they are injected as, created once per type and cached.
+ * <p>
+ * Supported are strings, primitives and their wrappers, {@link BigDecimal}, {@link BigInteger}, enums, {@link Duration}
+ * ({@code 30s}, {@code 500ms}, ISO-8601, or milliseconds), {@link Path}, {@link File}, {@link URI}, any type with a
+ * static {@code valueOf(String)}, {@code of(String)} or {@code parse(CharSequence)} method or a constructor taking a
+ * {@code String}, and arrays, lists and sets of those, from comma separated values.
+ */
+final class PropertyConverters {
+    private static final String UNSUPPORTED_TYPE_FORMAT = "No converter from String to '%s'.";
+    private static final String CONVERSION_FAILED_FORMAT = "Cannot convert '%s' to '%s'.";
+    private static final String[] FACTORY_METHOD_NAMES = {"valueOf", "of", "parse"};
+    private static final Map<Type, Function<String, Object>> CONVERTERS = new ConcurrentHashMap<>();
+
+    private PropertyConverters() {
+    }
+
+    /**
+     * @param type - The type to convert to, with its type arguments for collections.
+     * @return - The converter, or null if there is none for the type.
+     */
+    static Function<String, Object> getConverter(Type type) {
+        final Function<String, Object> converter = CONVERTERS.get(type);
+        if (converter != null) {
+            return converter;
+        }
+        final Function<String, Object> created = createConverter(type);
+        if (created == null) {
+            return null;
+        }
+        final Function<String, Object> previous = CONVERTERS.putIfAbsent(type, created);
+        return previous != null ? previous : created;
+    }
+
+    /**
+     * > It converts the value to the type.
+     *
+     * @throws IllegalArgumentException - if there is no converter for the type or the value cannot be converted.
+     */
+    static Object convert(String value, Type type) {
+        final Function<String, Object> converter = getConverter(type);
+        if (converter == null) {
+            throw new IllegalArgumentException(String.format(UNSUPPORTED_TYPE_FORMAT, type.getTypeName()));
+        }
+        return converter.apply(value);
+    }
+
+    private static Function<String, Object> createConverter(Type type) {
+        if (type instanceof ParameterizedType) {
+            final Class<?> rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+            final Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (typeArguments.length == 1 && Collection.class.isAssignableFrom(rawType)) {
+                return createCollectionConverter(rawType, typeArguments[0]);
+            }
+            return createConverter(rawType);
+        }
+        if (type instanceof GenericArrayType) {
+            return null;
+        }
+        if (!(type instanceof Class)) {
+            return null;
+        }
+        final Class<?> cls = (Class<?>) type;
+        if (cls.isArray()) {
+            return createArrayConverter(cls.getComponentType());
+        }
+        if (Collection.class.isAssignableFrom(cls)) {
+            return createCollectionConverter(cls, String.class);
+        }
+        final Function<String, Object> converter = createScalarConverter(cls);
+        if (converter == null) {
+            return null;
+        }
+        return value -> {
+            try {
+                return converter.apply(value.trim());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(String.format(CONVERSION_FAILED_FORMAT, value, cls.getName()), e);
+            }
+        };
+    }
+
+    private static Function<String, Object> createScalarConverter(Class<?> cls) {
+        if (cls == String.class || cls == Object.class || cls == CharSequence.class) {
+            return value -> value;
+        }
+        if (cls == int.class || cls == Integer.class) {
+            return Integer::valueOf;
+        }
+        if (cls == long.class || cls == Long.class) {
+            return Long::valueOf;
+        }
+        if (cls == boolean.class || cls == Boolean.class) {
+            return PropertyConverters::parseBoolean;
+        }
+        if (cls == double.class || cls == Double.class) {
+            return Double::valueOf;
+        }
+        if (cls == float.class || cls == Float.class) {
+            return Float::valueOf;
+        }
+        if (cls == short.class || cls == Short.class) {
+            return Short::valueOf;
+        }
+        if (cls == byte.class || cls == Byte.class) {
+            return Byte::valueOf;
+        }
+        if (cls == char.class || cls == Character.class) {
+            return PropertyConverters::parseCharacter;
+        }
+        if (cls == BigDecimal.class) {
+            return BigDecimal::new;
+        }
+        if (cls == BigInteger.class) {
+            return BigInteger::new;
+        }
+        if (cls == Duration.class) {
+            return PropertyConverters::parseDuration;
+        }
+        if (cls == Path.class) {
+            return Path::of;
+        }
+        if (cls == File.class) {
+            return File::new;
+        }
+        if (cls == URI.class) {
+            return URI::create;
+        }
+        if (cls.isEnum()) {
+            return value -> parseEnum(cls, value);
+        }
+        return createFactoryConverter(cls);
+    }
+
+    /**
+     * Converter calling a static factory method or a constructor of the type, bound once to a method handle.
+     */
+    private static Function<String, Object> createFactoryConverter(Class<?> cls) {
+        if (cls.isPrimitive() || cls.isInterface() || Modifier.isAbstract(cls.getModifiers())) {
+            return null;
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (String factoryMethodName : FACTORY_METHOD_NAMES) {
+            for (Class<?> parameterType : new Class<?>[]{String.class, CharSequence.class}) {
+                try {
+                    final Method method = cls.getMethod(factoryMethodName, parameterType);
+                    if (Modifier.isStatic(method.getModifiers()) && cls.isAssignableFrom(method.getReturnType())) {
+                        return invoker(lookup.unreflect(method));
+                    }
+                } catch (NoSuchMethodException | IllegalAccessException ignored) {
+                    // Try the next factory.
+                }
+            }
+        }
+        try {
+            return invoker(lookup.findConstructor(cls, MethodType.methodType(void.class, String.class)));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Function<String, Object> invoker(MethodHandle methodHandle) {
+        final MethodHandle factory = methodHandle.asType(MethodType.methodType(Object.class, methodHandle.type().parameterType(0)));
+        return value -> {
+            try {
+                return factory.invoke(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException(e);
+            }
+        };
+    }
+
+    private static Function<String, Object> createArrayConverter(Class<?> componentType) {
+        final Function<String, Object> elementConverter = getConverter(componentType);
+        if (elementConverter == null) {
+            return null;
+        }
+        return value -> {
+            final List<String> elements = split(value);
+            final Object array = Array.newInstance(componentType, elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                Array.set(array, i, elementConverter.apply(elements.get(i)));
+            }
+            return array;
+        };
+    }
+
+    /**
+     * Converter to an unmodifiable list, or set for sets, keeping the order of the values.
+     */
+    private static Function<String, Object> createCollectionConverter(Class<?> collectionType, Type elementType) {
+        if (elementType instanceof WildcardType) {
+            elementType = ((WildcardType) elementType).getUpperBounds()[0];
+        }
+        final Function<String, Object> elementConverter = getConverter(elementType);
+        if (elementConverter == null) {
+            return null;
+        }
+        final boolean set = Set.class.isAssignableFrom(collectionType);
+        return value -> {
+            final List<Object> elements = new ArrayList<>();
+            for (String element : split(value)) {
+                elements.add(elementConverter.apply(element));
+            }
+            return set
+                    ? Collections.unmodifiableSet(new LinkedHashSet<>(elements))
+                    : Collections.unmodifiableList(elements);
+        };
+    }
+
+    private static List<String> split(String value) {
+        final List<String> elements = new ArrayList<>();
+        for (String element : value.split(",")) {
+            if (!element.isBlank()) {
+                elements.add(element.trim());
+            }
+        }
+        return elements;
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes") || value.equalsIgnoreCase("on")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false") || value.equalsIgnoreCase("no") || value.equalsIgnoreCase("off")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException(value);
+    }
+
+    private static Character parseCharacter(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException(value);
+        }
+        return value.charAt(0);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parseEnum(Class<?> cls, String value) {
+        try {
+            return Enum.valueOf((Class) cls, value);
+        } catch (IllegalArgumentException e) {
+            return Enum.valueOf((Class) cls, value.toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    /**
+     * > It reads a duration with a unit, {@code ms}, {@code s}, {@code m}, {@code h} or {@code d}, in ISO-8601, or as
+     * milliseconds.
+     */
+    private static Duration parseDuration(String value) {
+        if (value.startsWith("P") || value.startsWith("-P")) {
+            return Duration.parse(value);
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim()));
+        }
+        final String amount = value.substring(0, value.length() - 1).trim();
+        switch (value.charAt(value.length() - 1)) {
+            case 's':
+                return Duration.ofSeconds(Long.parseLong(amount));
+            case 'm':
+                return Duration.ofMinutes(Long.parseLong(amount));
+            case 'h':
+                return Duration.ofHours(Long.parseLong(amount));
+            case 'd':
+                return Duration.ofDays(Long.parseLong(amount));
+            default:
+                return Duration.ofMillis(Long.parseLong(value));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.ioc.engine.core;
+
+import org.ioc.contex.enviroment.Environment;
+import org.ioc.engine.DependencyParam;
+import org.ioc.engine.DependencyParamValue;
+import org.ioc.exception.ComponentInstantiationException;
+import org.ioc.stereotype.ConfigurationProperties;
+import org.ioc.support.DependencyResolver;
+
+/**
+ * Resolver of the configuration of a context: {@link org.ioc.stereotype.Value} dependencies, instances of
+ * {@link ConfigurationProperties} classes and the {@link Environment} itself.
+ * <p>
+ * It is a singleton resolver, so every value is converted and every properties class bound once, however many
+ * components or prototype instances they are injected into. Arrays are the exception: they are mutable, so an array
+ * value is converted again for every injection and no dependent sees the changes of another.
+ */
+final class PropertyResolver implements DependencyResolver {
+    private static final String VALUE_FAILED_FORMAT = "Cannot inject value '%s' as '%s'.";
+
+    private final Environment environment;
+
+    PropertyResolver(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean canResolve(DependencyParam dependencyParam) {
+        return dependencyParam instanceof DependencyParamValue
+                || dependencyParam.getDependencyType() == Environment.class
+                || dependencyParam.getDependencyType().isAnnotationPresent(ConfigurationProperties.class);
+    }
+
+    @Override
+    public Scope getScope(DependencyParam dependencyParam) {
+        return dependencyParam instanceof DependencyParamValue && dependencyParam.getDependencyType().isArray()
+                ? Scope.PROTOTYPE
+                : Scope.SINGLETON;
+    }
+
+    @Override
+    public Object resolve(DependencyParam dependencyParam) {
+        if (dependencyParam instanceof DependencyParamValue) {
+            return this.resolveValue((DependencyParamValue) dependencyParam);
+        }
+        if (dependencyParam.getDependencyType() == Environment.class) {
+            return this.environment;
+        }
+        final Class<?> type = dependencyParam.getDependencyType();
+        return ConfigurationPropertiesBinder.of(type).bind(this.environment, type.getAnnotation(ConfigurationProperties.class).value());
+    }
+
+    /**
+     * > It resolves the placeholders of the expression and converts the result. A placeholder without value and without
+     * default gives null for a {@link org.ioc.stereotype.Nullable} dependency.
+     */
+    private Object resolveValue(DependencyParamValue dependencyParam) {
+        try {
+            final String value = dependencyParam.isRequired()
+                    ? this.environment.resolveRequiredPlaceholders(dependencyParam.getExpression())
+                    : this.environment.resolvePlaceholders(dependencyParam.getExpression());
+            return value == null ? null : PropertyConverters.convert(value, dependencyParam.getGenericType());
+        } catch (IllegalArgumentException e) {
+            throw new ComponentInstantiationException(String.format(
+                    VALUE_FAILED_FORMAT, dependencyParam.getExpression(), dependencyParam.getGenericType().getTypeName()), e);
+        }
+    }
+}
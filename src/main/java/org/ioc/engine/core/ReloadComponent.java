@@ -0,0 +1,341 @@
+package org.ioc.engine.core;
+
+import org.ioc.engine.ComponentBeanModel;
+import org.ioc.engine.ComponentModel;
+import org.ioc.engine.DependencyGraph;
+import org.ioc.engine.DependencyParam;
+import org.ioc.engine.DependencyParamCollection;
+import org.ioc.engine.DependencyParamProvider;
+import org.ioc.engine.InstanceGenerations;
+import org.ioc.engine.ScopeType;
+import org.ioc.exception.ComponentInstantiationException;
+import org.ioc.exception.PreDestroyExecutionException;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Reloads a component together with every component depending on it, so that no dependent keeps an instance of the
+ * previous generation.
+ * <p>
+ * The new generation is created next to the current one, in dependency order, independent components in parallel.
+ * Only once all of it has been created are the instances swapped in, as one new {@link InstanceGenerations generation}
+ * of the context, and the instances of the previous generation destroyed, dependents first. Prototype and pooled
+ * components on the way are not swapped: their dependents get instances created with the new generation, their
+ * instances created in advance and their idle instances are dropped, and a prototype instance already injected is
+ * never destroyed, as it belongs to its dependent. If any instance cannot be created, the ones already created are
+ * destroyed and the current generation is kept.
+ * <p>
+ * Instances already created in an active thread or custom scope keep the dependencies they were created with until
+ * their scope ends.
+ */
+public class ReloadComponent {
+    private static final String RELOAD_FAILED_FORMAT = "Reload of '%s' failed, the previous instances are kept.";
+    private static final String CHILD_DEPENDENT_FORMAT = "Cannot reload '%s', component '%s' of a child context depends on it. Close the child context first.";
+    private static final String THREAD_NAME_FORMAT = "ioc-reload-%d";
+
+    private final DependencyGraph dependencyGraph;
+    private final Executor executor;
+    private final Collection<ComponentModel> childComponents;
+
+    /**
+     * @param dependencyGraph - The dependency graph of the context the component belongs to.
+     * @param executor        - Creates the new instances.
+     * @param childComponents - The components and beans of the open child contexts, which must not depend on the
+     *                        reloaded components.
+     */
+    public ReloadComponent(DependencyGraph dependencyGraph, Executor executor, Collection<ComponentModel> childComponents) {
+        this.dependencyGraph = dependencyGraph;
+        this.executor = executor;
+        this.childComponents = childComponents;
+    }
+
+    /**
+     * @return - Daemon threads for the reloads of a context, created on demand and ended once idle, to be shut down
+     * with the context.
+     */
+    public static ExecutorService createDefaultExecutor() {
+        return Executors.newCachedThreadPool(new NamedDaemonThreadFactory(THREAD_NAME_FORMAT));
+    }
+
+    /**
+     * > It creates a new instance of the component, its beans and every component depending on it, directly or not,
+     * then swaps them in and destroys the previous ones. Dependents reaching the component through a prototype or a
+     * pooled component get a new instance of it too, created with the new generation.
+     *
+     * @param componentModel - The component or bean to reload.
+     * @return - The reloaded components and beans, every one after its dependencies.
+     * @throws IllegalStateException           - if a component of an open child context depends on a reloaded one.
+     * @throws ComponentInstantiationException - if an instance of the new generation could not be created.
+     * @throws PreDestroyExecutionException    - if an instance of the previous generation could not be destroyed, once
+     *                                         the new generation is in place.
+     */
+    public List<ComponentModel> reload(ComponentModel componentModel) {
+        final List<ComponentModel> affectedComponents = this.getAffectedComponents(componentModel);
+        final Set<ComponentModel> affected = new HashSet<>();
+        for (ComponentModel component : affectedComponents) {
+            addWithBeans(component, affected);
+        }
+        this.checkChildComponents(componentModel, affected);
+        final Map<ComponentModel, Object> newInstances = this.createGeneration(componentModel, affectedComponents, affected);
+        final List<ComponentModel> reloaded = new ArrayList<>(newInstances.size());
+        for (ComponentModel component : affectedComponents) {
+            final List<ComponentModel> withBeans = new ArrayList<>();
+            addWithBeans(component, withBeans);
+            for (ComponentModel reloadedComponent : withBeans) {
+                if (newInstances.containsKey(reloadedComponent)) {
+                    reloaded.add(reloadedComponent);
+                }
+            }
+        }
+        final Map<ComponentModel, Object> previousInstances = new HashMap<>();
+        for (ComponentModel component : reloaded) {
+            previousInstances.put(component, component.getActualInstance());
+        }
+        swapInstances(componentModel.getGenerations(), newInstances);
+        dropStaleInstances(affected, newInstances);
+        final List<ComponentModel> destroyed = new ArrayList<>();
+        for (ComponentModel component : reloaded) {
+            if (holdsInstance(component)) {
+                destroyed.add(component);
+            }
+        }
+        Collections.reverse(destroyed);
+        destroyInstances(destroyed, previousInstances);
+        return reloaded;
+    }
+
+    /**
+     * @return - The component to reload, then every component depending on it, every one after its dependencies.
+     */
+    private List<ComponentModel> getAffectedComponents(ComponentModel componentModel) {
+        final List<ComponentModel> affectedComponents = new ArrayList<>();
+        affectedComponents.add(componentModel);
+        final ComponentModel rootComponent = componentModel instanceof ComponentBeanModel
+                ? ((ComponentBeanModel) componentModel).getRootComponent()
+                : componentModel;
+        if (this.dependencyGraph.contains(rootComponent)) {
+            affectedComponents.addAll(this.dependencyGraph.getTransitiveDependents(rootComponent));
+        }
+        return affectedComponents;
+    }
+
+    /**
+     * Refuses the reload if a component of a child context was injected with one of the affected components: the
+     * child would keep an instance that is about to be destroyed. Providers ask for the current instance on every call
+     * and are fine.
+     */
+    private void checkChildComponents(ComponentModel componentModel, Set<ComponentModel> affected) {
+        for (ComponentModel childComponent : this.childComponents) {
+            final List<DependencyParam> dependencyParams = new ArrayList<>();
+            if (childComponent.getResolvedConstructorParams() != null) {
+                dependencyParams.addAll(childComponent.getResolvedConstructorParams());
+            }
+            if (childComponent.getResolvedFields() != null) {
+                dependencyParams.addAll(childComponent.getResolvedFields());
+            }
+            for (DependencyParam dependencyParam : dependencyParams) {
+                if (dependencyParam instanceof DependencyParamProvider) {
+                    continue;
+                }
+                final List<ComponentModel> injectedComponents = dependencyParam instanceof DependencyParamCollection
+                        ? ((DependencyParamCollection) dependencyParam).getComponentModels()
+                        : Collections.singletonList(dependencyParam.getComponentModel());
+                if (injectedComponents != null && injectedComponents.stream().anyMatch(affected::contains)) {
+                    throw new IllegalStateException(String.format(CHILD_DEPENDENT_FORMAT,
+                            componentModel.getComponentType().getName(), childComponent.getComponentType().getName()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the new instances, each component once all the affected components it depends on are created.
+     *
+     * @return - The new instance of every reloaded component and bean.
+     */
+    private Map<ComponentModel, Object> createGeneration(ComponentModel componentModel, List<ComponentModel> affectedComponents,
+                                                         Set<ComponentModel> affected) {
+        final Map<ComponentModel, Object> newInstances = new ConcurrentHashMap<>();
+        final Map<ComponentModel, CompletableFuture<Void>> created = new HashMap<>();
+        try {
+            for (ComponentModel component : affectedComponents) {
+                final CompletableFuture<?>[] dependencies = this.dependencyGraph.getDependencies(component).stream()
+                        .map(created::get)
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture<?>[]::new);
+                final boolean reloaded = component == componentModel || holdsInstance(component);
+                final CompletableFuture<Void> instancesCreated = CompletableFuture.allOf(dependencies)
+                        .thenRunAsync(() -> createInstances(component, reloaded, newInstances, affected), this.executor);
+                created.put(component, instancesCreated);
+                if (component instanceof ComponentBeanModel) {
+                    // Dependents of a bean depend on its root component in the graph.
+                    created.put(((ComponentBeanModel) component).getRootComponent(), instancesCreated);
+                }
+            }
+            CompletableFuture.allOf(created.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            final ComponentInstantiationException failure = new ComponentInstantiationException(String.format(
+                    RELOAD_FAILED_FORMAT, componentModel.getComponentType().getName()), e.getCause());
+            try {
+                destroyInstances(new ArrayList<>(newInstances.keySet()), newInstances);
+            } catch (PreDestroyExecutionException destroyFailure) {
+                failure.addSuppressed(destroyFailure);
+            }
+            throw failure;
+        }
+        return newInstances;
+    }
+
+    /**
+     * Creates the new instance of a component, if it is reloaded, and of its beans that hold their instance, or of a
+     * single bean, without setting them yet. A prototype or pooled component is not reloaded, unless it is the one
+     * asked for: its dependents create their own instance of it.
+     */
+    private static void createInstances(ComponentModel component, boolean reloaded, Map<ComponentModel, Object> newInstances,
+                                        Set<ComponentModel> affected) {
+        if (component instanceof ComponentBeanModel) {
+            if (reloaded) {
+                final ComponentBeanModel bean = (ComponentBeanModel) component;
+                newInstances.put(bean, InstantiationComponentBean.HandlerInstantiation.createNewInstance(
+                        bean, getInjectedInstance(bean.getRootComponent(), newInstances, affected)));
+            }
+            return;
+        }
+        if (reloaded) {
+            newInstances.put(component, createInstance(component, newInstances, affected));
+        }
+        if (component.getBeans() != null) {
+            for (ComponentBeanModel bean : component.getBeans()) {
+                if (holdsInstance(bean)) {
+                    newInstances.put(bean, InstantiationComponentBean.HandlerInstantiation.createNewInstance(
+                            bean, getInjectedInstance(component, newInstances, affected)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates an instance of a component with the instances of the new generation, running its post construct method.
+     */
+    private static Object createInstance(ComponentModel component, Map<ComponentModel, Object> newInstances, Set<ComponentModel> affected) {
+        final Object[] constructorParams = getInstances(component.getResolvedConstructorParams(), newInstances, affected);
+        final Object[] fieldParams = getInstances(component.getResolvedFields(), newInstances, affected);
+        final Object instance = InstantiationComponentBean.HandlerInstantiation.constructInstance(component, constructorParams, fieldParams);
+        InstantiationComponentBean.HandlerInstantiation.invokePostConstruct(component, instance);
+        component.getContainerMetrics().onInstanceCreated(component);
+        return instance;
+    }
+
+    private static Object[] getInstances(List<DependencyParam> dependencyParams, Map<ComponentModel, Object> newInstances,
+                                         Set<ComponentModel> affected) {
+        if (dependencyParams == null) {
+            return new Object[0];
+        }
+        return dependencyParams.stream()
+                .map(dependencyParam -> dependencyParam.getInstance(component -> getInjectedInstance(component, newInstances, affected)))
+                .toArray();
+    }
+
+    /**
+     * The instance to inject for a component: a new one, created with the new generation, for an affected prototype or
+     * pooled component, the new one if it is reloaded, except for proxied components whose proxy stays the same and
+     * delegates to the new instance once swapped in, and the current one otherwise.
+     */
+    private static Object getInjectedInstance(ComponentModel component, Map<ComponentModel, Object> newInstances,
+                                              Set<ComponentModel> affected) {
+        if (affected.contains(component) && createsInstances(component)) {
+            if (component instanceof ComponentBeanModel) {
+                final ComponentBeanModel bean = (ComponentBeanModel) component;
+                return InstantiationComponentBean.HandlerInstantiation.createNewInstance(
+                        bean, getInjectedInstance(bean.getRootComponent(), newInstances, affected));
+            }
+            return createInstance(component, newInstances, affected);
+        }
+        final Object newInstance = newInstances.get(component);
+        if (newInstance == null || component.getScopeType() == ScopeType.PROXY) {
+            return component.getInstance();
+        }
+        return newInstance;
+    }
+
+    /**
+     * Publishes the new instances as one generation of the context, so that readers see either all of them or none.
+     */
+    private static void swapInstances(InstanceGenerations generations, Map<ComponentModel, Object> newInstances) {
+        final boolean sameGenerations = generations != null && newInstances.keySet().stream()
+                .allMatch(component -> component.getGenerations() == generations);
+        if (sameGenerations) {
+            generations.setAll(newInstances);
+        } else {
+            newInstances.forEach(ComponentModel::setInstance);
+        }
+    }
+
+    /**
+     * Drops the instances of the affected prototype and pooled components created with the previous generation: the
+     * prototype instances created in advance, and the pool, whose idle instances are destroyed, like its borrowed
+     * instances when they are returned. A new instance of a reloaded pooled component is the first idle instance of
+     * its new pool.
+     */
+    private static void dropStaleInstances(Set<ComponentModel> affected, Map<ComponentModel, Object> newInstances) {
+        for (ComponentModel component : affected) {
+            if (component.getScopeName() != null) {
+                continue;
+            }
+            if (component.getScopeType() == ScopeType.PROTOTYPE) {
+                component.setPendingInstances(null);
+            }
+            if (component.getComponentPool() != null) {
+                component.setComponentPool(component.getComponentPool().renew());
+                final Object newInstance = newInstances.get(component);
+                if (newInstance != null) {
+                    component.getComponentPool().seed(newInstance);
+                }
+            }
+        }
+    }
+
+    private static void addWithBeans(ComponentModel component, Collection<ComponentModel> components) {
+        components.add(component);
+        if (!(component instanceof ComponentBeanModel) && component.getBeans() != null) {
+            components.addAll(component.getBeans());
+        }
+    }
+
+    /**
+     * Destroys the given instances one after the other, reporting every failure once all of them ran.
+     */
+    private static void destroyInstances(List<ComponentModel> components, Map<ComponentModel, Object> instances) {
+        PreDestroyExecutionException failure = null;
+        for (ComponentModel component : components) {
+            try {
+                InstantiationComponentBean.HandlerInstantiation.destroyInstance(component, instances.get(component));
+            } catch (PreDestroyExecutionException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return - True if the component holds the instance its dependents get, false for prototypes, pools and scopes.
+     */
+    private static boolean holdsInstance(ComponentModel component) {
+        return component.getScopeName() == null && !createsInstances(component);
+    }
+
+    /**
+     * @return - True if every dependent gets its own instance of the component: prototypes and pools, not scopes.
+     */
+    private static boolean createsInstances(ComponentModel component) {
+        return component.getScopeName() == null
+                && (component.getScopeType() == ScopeType.PROTOTYPE || component.getComponentPool() != null);
+    }
+}
@@ -0,0 +1,174 @@
+package org.ioc.engine.core;
+
+import org.ioc.contex.ApplicationContext;
+import org.ioc.engine.ComponentBeanModel;
+import org.ioc.engine.ComponentModel;
+import org.ioc.engine.ScopeType;
+import org.ioc.exception.StartUpException;
+import org.ioc.stereotype.StartUp;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs the {@link StartUp} methods of the components of a context, phase after phase. The methods of one phase run
+ * concurrently on the executor, and the next phase starts once all of them have completed.
+ * <p>
+ * The parameters of every method are resolved once, before the first phase starts. Only singleton and proxy components
+ * can have start up methods, the methods of a proxy component run through its proxy, so that its aspects apply.
+ */
+public class StartUpComponent {
+    private static final String START_UP_FAILED_FORMAT = "Start up method '%s.%s' failed.";
+    private static final String UNSUPPORTED_SCOPE_FORMAT = "Start up method '%s.%s' cannot run on a %s component, only on singleton and proxy components.";
+    private static final String INTERRUPTED_MSG = "Interrupted while running the start up methods.";
+    private static final String THREAD_NAME_FORMAT = "ioc-startup-%d";
+
+    private final ApplicationContext applicationContext;
+    private final Executor executor;
+
+    /**
+     * @param applicationContext - The started context.
+     * @param executor           - Runs the methods of a phase, null for daemon threads of the container.
+     */
+    public StartUpComponent(ApplicationContext applicationContext, Executor executor) {
+        this.applicationContext = applicationContext;
+        this.executor = executor;
+    }
+
+    /**
+     * > It finds the start up methods of all components, resolves their parameters, and runs them by phase.
+     *
+     * @throws StartUpException - if a method failed, once the other methods of its phase completed. Later phases do
+     *                          not run.
+     */
+    public void runStartUpMethods() throws StartUpException {
+        final SortedMap<Integer, List<StartUpMethod>> phases = this.getStartUpMethods();
+        if (phases.isEmpty()) {
+            return;
+        }
+        ExecutorService ownExecutor = null;
+        try {
+            for (List<StartUpMethod> startUpMethods : phases.values()) {
+                if (startUpMethods.size() == 1) {
+                    startUpMethods.get(0).invoke();
+                    continue;
+                }
+                Executor phaseExecutor = this.executor;
+                if (phaseExecutor == null) {
+                    if (ownExecutor == null) {
+                        ownExecutor = Executors.newCachedThreadPool(new NamedDaemonThreadFactory(THREAD_NAME_FORMAT));
+                    }
+                    phaseExecutor = ownExecutor;
+                }
+                runPhase(startUpMethods, phaseExecutor);
+            }
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+    }
+
+    private static void runPhase(List<StartUpMethod> startUpMethods, Executor executor) {
+        final List<CompletableFuture<Void>> completed = new ArrayList<>(startUpMethods.size());
+        for (StartUpMethod startUpMethod : startUpMethods) {
+            completed.add(CompletableFuture.runAsync(startUpMethod::invoke, executor));
+        }
+        StartUpException failure = null;
+        for (CompletableFuture<Void> future : completed) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StartUpException(INTERRUPTED_MSG, e);
+            } catch (ExecutionException e) {
+                final StartUpException cause = e.getCause() instanceof StartUpException
+                        ? (StartUpException) e.getCause()
+                        : new StartUpException(e.getCause().getMessage(), e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return - The start up methods with their resolved parameters, by phase.
+     * @throws StartUpException - if a start up method is declared by a prototype, pooled or scoped component, whose
+     *                          instances belong to their dependents or their scope.
+     */
+    private SortedMap<Integer, List<StartUpMethod>> getStartUpMethods() {
+        final SortedMap<Integer, List<StartUpMethod>> phases = new TreeMap<>();
+        for (ComponentModel componentModel : this.applicationContext.getAllDefineBean()) {
+            if (componentModel instanceof ComponentBeanModel || componentModel.getActualInstance() == null) {
+                continue;
+            }
+            for (Method declaredMethod : componentModel.getComponentType().getDeclaredMethods()) {
+                final StartUp startUp = declaredMethod.getAnnotation(StartUp.class);
+                final boolean isVoid = declaredMethod.getReturnType() == void.class || declaredMethod.getReturnType() == Void.class;
+                if (startUp == null || !isVoid) {
+                    continue;
+                }
+                if (!hasSingleInstance(componentModel)) {
+                    throw new StartUpException(String.format(UNSUPPORTED_SCOPE_FORMAT, componentModel.getComponentType().getName(),
+                            declaredMethod.getName(), componentModel.getScopeType().name().toLowerCase()));
+                }
+                declaredMethod.setAccessible(true);
+                final Object[] params = new Object[declaredMethod.getParameterCount()];
+                final Class<?>[] parameterTypes = declaredMethod.getParameterTypes();
+                for (int i = 0; i < params.length; i++) {
+                    params[i] = this.applicationContext.getBean(parameterTypes[i]);
+                }
+                phases.computeIfAbsent(startUp.phase(), phase -> new ArrayList<>())
+                        .add(new StartUpMethod(getTarget(componentModel, declaredMethod), declaredMethod, params));
+            }
+        }
+        return phases;
+    }
+
+    private static boolean hasSingleInstance(ComponentModel componentModel) {
+        return componentModel.getScopeName() == null && componentModel.getComponentPool() == null
+                && (componentModel.getScopeType() == ScopeType.SINGLETON || componentModel.getScopeType() == ScopeType.PROXY);
+    }
+
+    /**
+     * @return - The proxy of the component, or its instance for methods the proxy cannot intercept.
+     */
+    private static Object getTarget(ComponentModel componentModel, Method method) {
+        final int modifiers = method.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers)) {
+            return componentModel.getActualInstance();
+        }
+        return componentModel.getInstance();
+    }
+
+    private static final class StartUpMethod {
+        private final Object instance;
+        private final Method method;
+        private final Object[] params;
+
+        private StartUpMethod(Object instance, Method method, Object[] params) {
+            this.instance = instance;
+            this.method = method;
+            this.params = params;
+        }
+
+        private void invoke() {
+            try {
+                this.method.invoke(this.instance, this.params);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                final Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+                throw new StartUpException(String.format(START_UP_FAILED_FORMAT,
+                        this.method.getDeclaringClass().getName(), this.method.getName()), cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.ioc.engine.event;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for a call to a proxied method through its chain of aspects, including the method itself.
+ */
+@Name("org.ioc.AspectChain")
+@Label("Aspect Chain")
+@Category("IoC Container")
+@Description("Call of a method through its aspect handlers")
+@StackTrace(false)
+@Threshold("20 us")
+public class AspectChainEvent extends Event {
+    @Label("Component Type")
+    public Class<?> componentType;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Aspects")
+    public int aspects;
+}
@@ -0,0 +1,25 @@
+package org.ioc.engine.event;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for the instantiation of a component or bean at boot, including its post construct method.
+ */
+@Name("org.ioc.ComponentInstantiation")
+@Label("Component Instantiation")
+@Category("IoC Container")
+@Description("Creation of a component or bean when the context starts")
+@StackTrace(false)
+public class ComponentInstantiationEvent extends Event {
+    @Label("Component Type")
+    public Class<?> componentType;
+
+    @Label("Instance Name")
+    public String instanceName;
+
+    @Label("Scope")
+    public String scope;
+
+    @Label("Instances")
+    public int instances;
+}
@@ -0,0 +1,19 @@
+package org.ioc.engine.event;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for the execution of a {@link org.ioc.stereotype.PostConstruct} method.
+ */
+@Name("org.ioc.PostConstruct")
+@Label("Post Construct")
+@Category("IoC Container")
+@Description("Execution of a @PostConstruct method")
+@StackTrace(false)
+public class PostConstructEvent extends Event {
+    @Label("Component Type")
+    public Class<?> componentType;
+
+    @Label("Method")
+    public String method;
+}
@@ -0,0 +1,19 @@
+package org.ioc.engine.event;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for the execution of a {@link org.ioc.stereotype.PreDestroy} method.
+ */
+@Name("org.ioc.PreDestroy")
+@Label("Pre Destroy")
+@Category("IoC Container")
+@Description("Execution of a @PreDestroy method")
+@StackTrace(false)
+public class PreDestroyEvent extends Event {
+    @Label("Component Type")
+    public Class<?> componentType;
+
+    @Label("Method")
+    public String method;
+}
@@ -0,0 +1,23 @@
+package org.ioc.engine.event;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for the reload of a component: creation of the new instances of the component and of its dependents,
+ * and destruction of the old ones.
+ */
+@Name("org.ioc.Reload")
+@Label("Component Reload")
+@Category("IoC Container")
+@Description("Replacement of the instance of a component by a new one")
+public class ReloadEvent extends Event {
+    @Label("Component Type")
+    public Class<?> componentType;
+
+    @Label("Instance Name")
+    public String instanceName;
+
+    @Label("Reloaded Components")
+    @Description("The component, its beans and the dependents that were reloaded with it")
+    public int reloadedComponents;
+}
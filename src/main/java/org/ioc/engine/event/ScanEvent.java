@@ -0,0 +1,19 @@
+package org.ioc.engine.event;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for the scanning of the directories and jars of a context.
+ */
+@Name("org.ioc.Scan")
+@Label("Class Scanning")
+@Category("IoC Container")
+@Description("Locating and loading the classes of the scanned directories and jars")
+@StackTrace(false)
+public class ScanEvent extends Event {
+    @Label("Locations")
+    public int locations;
+
+    @Label("Classes")
+    public int classes;
+}
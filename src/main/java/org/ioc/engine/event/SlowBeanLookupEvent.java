@@ -0,0 +1,23 @@
+package org.ioc.engine.event;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for a getBean call that took longer than the threshold, 1 ms by default. The lookups below the threshold
+ * are not recorded.
+ */
+@Name("org.ioc.SlowBeanLookup")
+@Label("Slow Bean Lookup")
+@Category("IoC Container")
+@Description("getBean call slower than the threshold")
+@Threshold("1 ms")
+public class SlowBeanLookupEvent extends Event {
+    @Label("Requested Type")
+    public Class<?> requestedType;
+
+    @Label("Requested Name")
+    public String requestedName;
+
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,44 @@
+package org.ioc.engine.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link DefaultContainerMetrics}. Components are named by their type, followed by their instance name
+ * in parentheses when they have one, and methods by their declaring type and name.
+ */
+public interface ContainerMetricsMXBean {
+    /**
+     * @return - Successful getBean calls per requested type, or per requested name prefixed with "name:".
+     */
+    Map<String, Long> getBeanHits();
+
+    /**
+     * @return - getBean calls that found no component, keyed like {@link #getBeanHits()}.
+     */
+    Map<String, Long> getBeanMisses();
+
+    /**
+     * @return - Instances created per component or bean.
+     */
+    Map<String, Long> getInstanceCreations();
+
+    /**
+     * @return - Calls on proxies per method.
+     */
+    Map<String, Long> getProxyInvocations();
+
+    /**
+     * @return - Total time spent in the aspect chains per method.
+     */
+    Map<String, Long> getAspectTotalNanos();
+
+    /**
+     * @return - 99th percentile of the aspect chains per method.
+     */
+    Map<String, Long> getAspectP99Nanos();
+
+    /**
+     * Sets every counter and histogram back to zero.
+     */
+    void reset();
+}
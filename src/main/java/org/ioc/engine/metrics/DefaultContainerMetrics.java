@@ -0,0 +1,247 @@
+package org.ioc.engine.metrics;
+
+import org.ioc.engine.ComponentModel;
+import org.ioc.support.ContainerMetrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * In memory {@link ContainerMetrics}: striped counters for bean lookups, instance creations and proxy calls, and a
+ * {@link LatencyHistogram} of the aspect chain of every method. Counters are created on first use and then only
+ * incremented, so recording never locks.
+ * <p>
+ * Bean lookups by type are counted by class name, so that the counters never keep a class, nor its class loader, alive.
+ * Only the first {@value #MAX_TRACKED_TYPES} types get their own counters, the lookups of any other type are added up
+ * under {@value #OTHER_TYPES_KEY}.
+ */
+public class DefaultContainerMetrics implements ContainerMetrics, ContainerMetricsMXBean {
+    private static final String OBJECT_NAME_FORMAT = "org.ioc:type=ContainerMetrics,id=%d";
+    private static final String NAME_KEY_PREFIX = "name:";
+    private static final int MAX_TRACKED_TYPES = 1024;
+    private static final String OTHER_TYPES_KEY = "<other types>";
+
+    private final ConcurrentMap<String, LongAdder> beanHitsByType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> beanMissesByType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> beanHitsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> beanMissesByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ComponentModel, LongAdder> instanceCreations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, LongAdder> proxyInvocations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, LatencyHistogram> aspectLatencies = new ConcurrentHashMap<>();
+    private ObjectName objectName;
+
+    @Override
+    public void onBeanLookup(Class<?> requestedType, String requestedName, boolean found) {
+        if (requestedType != null) {
+            incrementType(found ? this.beanHitsByType : this.beanMissesByType, requestedType);
+        } else if (requestedName != null) {
+            increment(found ? this.beanHitsByName : this.beanMissesByName, requestedName);
+        }
+    }
+
+    @Override
+    public void onInstanceCreated(ComponentModel componentModel) {
+        increment(this.instanceCreations, componentModel);
+    }
+
+    @Override
+    public void onProxyInvocation(ComponentModel componentModel, Method method) {
+        increment(this.proxyInvocations, method);
+    }
+
+    @Override
+    public void onAspectChain(ComponentModel componentModel, Method method, long nanos) {
+        LatencyHistogram histogram = this.aspectLatencies.get(method);
+        if (histogram == null) {
+            histogram = this.aspectLatencies.computeIfAbsent(method, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * @param requestedType - A type looked up.
+     * @return - The lookups that found a component, 0 if the type was looked up once the tracked types were exhausted.
+     */
+    public long getBeanHitCount(Class<?> requestedType) {
+        return sum(this.beanHitsByType, requestedType.getName());
+    }
+
+    /**
+     * @param requestedType - A type looked up.
+     * @return - The lookups that found nothing, 0 if the type was looked up once the tracked types were exhausted.
+     */
+    public long getBeanMissCount(Class<?> requestedType) {
+        return sum(this.beanMissesByType, requestedType.getName());
+    }
+
+    public long getBeanHitCount(String requestedName) {
+        return sum(this.beanHitsByName, requestedName);
+    }
+
+    public long getBeanMissCount(String requestedName) {
+        return sum(this.beanMissesByName, requestedName);
+    }
+
+    public long getInstanceCreationCount(ComponentModel componentModel) {
+        return sum(this.instanceCreations, componentModel);
+    }
+
+    public long getProxyInvocationCount(Method method) {
+        return sum(this.proxyInvocations, method);
+    }
+
+    /**
+     * @param method - A method with aspects.
+     * @return - The latencies of its aspect chain, or null if it has not been called.
+     */
+    public LatencyHistogram getAspectLatency(Method method) {
+        return this.aspectLatencies.get(method);
+    }
+
+    /**
+     * @param limit - Max number of components to return.
+     * @return - The components and beans with the most created instances, most created first.
+     */
+    public List<ComponentModel> getMostCreatedComponents(int limit) {
+        final List<ComponentModel> componentModels = new ArrayList<>(this.instanceCreations.keySet());
+        componentModels.sort(Comparator.comparingLong(this::getInstanceCreationCount).reversed());
+        return componentModels.subList(0, Math.min(limit, componentModels.size()));
+    }
+
+    @Override
+    public Map<String, Long> getBeanHits() {
+        final Map<String, Long> beanHits = toSums(this.beanHitsByType, Function.identity());
+        beanHits.putAll(toSums(this.beanHitsByName, name -> NAME_KEY_PREFIX + name));
+        return beanHits;
+    }
+
+    @Override
+    public Map<String, Long> getBeanMisses() {
+        final Map<String, Long> beanMisses = toSums(this.beanMissesByType, Function.identity());
+        beanMisses.putAll(toSums(this.beanMissesByName, name -> NAME_KEY_PREFIX + name));
+        return beanMisses;
+    }
+
+    @Override
+    public Map<String, Long> getInstanceCreations() {
+        return toSums(this.instanceCreations, DefaultContainerMetrics::describe);
+    }
+
+    @Override
+    public Map<String, Long> getProxyInvocations() {
+        return toSums(this.proxyInvocations, DefaultContainerMetrics::describe);
+    }
+
+    @Override
+    public Map<String, Long> getAspectTotalNanos() {
+        return toValues(this.aspectLatencies, LatencyHistogram::getTotalNanos, Long::sum);
+    }
+
+    @Override
+    public Map<String, Long> getAspectP99Nanos() {
+        return toValues(this.aspectLatencies, histogram -> histogram.getPercentileNanos(99.0), Math::max);
+    }
+
+    @Override
+    public void reset() {
+        this.beanHitsByType.clear();
+        this.beanMissesByType.clear();
+        this.beanHitsByName.clear();
+        this.beanMissesByName.clear();
+        this.instanceCreations.clear();
+        this.proxyInvocations.clear();
+        this.aspectLatencies.clear();
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server, once.
+     *
+     * @return - The name of the MBean.
+     */
+    public synchronized ObjectName registerMBean() {
+        if (this.objectName == null) {
+            try {
+                final ObjectName name = new ObjectName(String.format(OBJECT_NAME_FORMAT, System.identityHashCode(this)));
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+                this.objectName = name;
+            } catch (JMException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return this.objectName;
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server if they were registered.
+     */
+    public synchronized void unregisterMBean() {
+        if (this.objectName != null) {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            try {
+                if (mBeanServer.isRegistered(this.objectName)) {
+                    mBeanServer.unregisterMBean(this.objectName);
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            this.objectName = null;
+        }
+    }
+
+    private static <K> void increment(ConcurrentMap<K, LongAdder> counters, K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static void incrementType(ConcurrentMap<String, LongAdder> counters, Class<?> type) {
+        LongAdder counter = counters.get(type.getName());
+        if (counter == null) {
+            // Racing first lookups may go a few counters past the limit, which is fine for a bound.
+            final String key = counters.size() < MAX_TRACKED_TYPES ? type.getName() : OTHER_TYPES_KEY;
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static <K> long sum(Map<K, LongAdder> counters, K key) {
+        final LongAdder counter = counters.get(key);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    private static <K> Map<String, Long> toSums(Map<K, LongAdder> counters, Function<K, String> keyName) {
+        final Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((key, counter) -> sums.merge(keyName.apply(key), counter.sum(), Long::sum));
+        return sums;
+    }
+
+    private static Map<String, Long> toValues(Map<Method, LatencyHistogram> histograms,
+                                              ToLongFunction<LatencyHistogram> value,
+                                              BinaryOperator<Long> merge) {
+        final Map<String, Long> values = new TreeMap<>();
+        histograms.forEach((method, histogram) -> values.merge(describe(method), value.applyAsLong(histogram), merge));
+        return values;
+    }
+
+    private static String describe(ComponentModel componentModel) {
+        return componentModel.getInstanceName() == null
+                ? componentModel.getComponentType().getName()
+                : componentModel.getComponentType().getName() + " (" + componentModel.getInstanceName() + ")";
+    }
+
+    private static String describe(Method method) {
+        return method.getDeclaringClass().getName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,115 @@
+package org.ioc.engine.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent latency histogram with logarithmic buckets: every power of two is split in four sub-buckets, so a
+ * recorded value is known within 25% whatever its magnitude, from nanoseconds to hours, in a fixed number of buckets.
+ * <p>
+ * Every bucket is a {@link LongAdder}, so threads recording at the same time do not contend on a single counter.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param nanos - The duration to record, negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        final long value = Math.max(nanos, 0L);
+        this.buckets[bucketIndex(value)].increment();
+        this.count.increment();
+        this.totalNanos.add(value);
+        this.maxNanos.accumulate(value);
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        final long count = this.getCount();
+        return count == 0L ? 0L : this.getTotalNanos() / count;
+    }
+
+    /**
+     * @param percentile - Between 0 and 100, e.g. 99.9.
+     * @return - The upper bound of the bucket holding the given percentile, never more than the max recorded value.
+     */
+    public long getPercentileNanos(double percentile) {
+        final long[] counts = new long[BUCKETS];
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), this.getMaxNanos());
+            }
+        }
+        return this.getMaxNanos();
+    }
+
+    public void reset() {
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+        this.count.reset();
+        this.totalNanos.reset();
+        this.maxNanos.reset();
+    }
+
+    /**
+     * Values below {@link #SUB_BUCKETS} get their own bucket, larger ones are indexed by their highest bit and the
+     * {@link #SUB_BUCKET_BITS} bits that follow it.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int highestBit = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (highestBit - SUB_BUCKET_BITS);
+    }
+
+    static long upperBound(int index) {
+        return index == BUCKETS - 1 ? Long.MAX_VALUE : lowerBound(index + 1) - 1;
+    }
+}
@@ -0,0 +1,19 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the component only if all the given classes are on the class path, e.g. an optional driver. The classes
+ * are given by name and looked up as resources, they are not loaded.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConditionalOnClass {
+    /**
+     * The fully qualified names of the classes, nested classes with {@code $}.
+     */
+    String[] value();
+}
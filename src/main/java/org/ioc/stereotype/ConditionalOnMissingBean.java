@@ -0,0 +1,17 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the component only if no other component or bean of the context is compatible with the given types, by
+ * default the type of the component itself, e.g. a default implementation the application may replace. Among several
+ * such components for the same type, the first one, by class name, is registered.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConditionalOnMissingBean {
+    Class<?>[] value() default {};
+}
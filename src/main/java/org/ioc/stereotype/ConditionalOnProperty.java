@@ -0,0 +1,30 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the component only if a property of the {@link org.ioc.contex.enviroment.Environment} has the given
+ * value, or, without value, is set to anything but {@code false}. Checked while scanning, before the component is
+ * mapped, so a disabled component costs nothing.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConditionalOnProperty {
+    /**
+     * The key of the property, e.g. {@code cache.enabled}.
+     */
+    String value();
+
+    /**
+     * The expected value, compared ignoring case. Empty for any value but {@code false}.
+     */
+    String havingValue() default "";
+
+    /**
+     * Whether to register the component when the property is not set.
+     */
+    boolean matchIfMissing() default false;
+}
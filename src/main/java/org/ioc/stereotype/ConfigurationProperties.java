@@ -0,0 +1,20 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds the properties under a prefix to the fields of a class, e.g. {@code db.url} and {@code db.pool-size} to the
+ * fields {@code url} and {@code poolSize} of a class with {@code @ConfigurationProperties("db")}. The class needs a
+ * constructor without parameters; fields of other types with such a constructor are bound as nested properties.
+ * <p>
+ * The class is not a component itself: one instance is bound when the first component depends on it and shared by
+ * every other.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConfigurationProperties {
+    String value() default "";
+}
@@ -0,0 +1,16 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Position of a component or bean in the collections, arrays and maps it is injected into. Lower values come first,
+ * components without this annotation come last, in the order of the context.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Order {
+    int value();
+}
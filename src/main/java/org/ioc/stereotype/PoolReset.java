@@ -0,0 +1,15 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Method annotated with this annotation will be executed every time an instance of a
+ * {@link org.ioc.engine.ScopeType#POOLED} component is returned to its pool, before it can be borrowed again.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PoolReset {
+}
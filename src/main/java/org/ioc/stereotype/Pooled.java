@@ -0,0 +1,24 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the pool of a component or bean with {@link org.ioc.engine.ScopeType#POOLED} scope.
+ * Pooled components without this annotation use the default values.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Pooled {
+    /**
+     * Maximum number of idle instances kept by the pool. Instances returned to a full pool are destroyed.
+     */
+    int maxIdle() default 8;
+
+    /**
+     * Idle instances older than this are destroyed instead of being borrowed again. Zero or less disables eviction.
+     */
+    long maxIdleMillis() default 60_000L;
+}
@@ -8,4 +8,11 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface PostConstruct {
+    /**
+     * Runs the method of a singleton on the post construct executor instead of during the startup. The component is
+     * injected right away, except into the dependencies annotated with {@link AwaitReady}, and the context is ready
+     * once the method has completed. It is ignored by the other scopes, whose method always runs before the instance is
+     * handed out.
+     */
+    boolean async() default false;
 }
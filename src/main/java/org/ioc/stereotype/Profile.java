@@ -0,0 +1,19 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the component only if one of the given profiles is active, e.g. {@code @Profile({"api", "worker"})}. A
+ * profile starting with {@code !} matches when that profile is not active. Components without this annotation belong
+ * to every profile.
+ *
+ * @see org.ioc.configuration.ScanningConfiguration#activeProfiles(String...)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Profile {
+    String[] value();
+}
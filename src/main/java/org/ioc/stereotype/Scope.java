@@ -15,4 +15,9 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Scope {
     ScopeType value() default ScopeType.SINGLETON;
+
+    /**
+     * Name of the registered {@link org.ioc.support.ComponentScope}, required for {@link ScopeType#CUSTOM}.
+     */
+    String name() default "";
 }
@@ -9,11 +9,15 @@ import java.lang.annotation.Target;
  * Method annotated with this annotation will be executed right after the
  * MagicInjector has loaded all services and beans.
  * <p>
- * In order for it to work, you need to place it in the startup class and
- * the method should be void.
+ * It works on any component of the context started with
+ * {@link org.ioc.InitApplicationContext#run(Class)}, and the method should be void.
+ * Its parameters are resolved from the context.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface StartUp {
-
+    /**
+     * Methods of a lower phase run first. Methods of the same phase run concurrently, on the startup executor.
+     */
+    int phase() default 0;
 }
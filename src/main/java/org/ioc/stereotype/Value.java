@@ -0,0 +1,17 @@
+package org.ioc.stereotype;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects a configuration value into a field or constructor parameter, e.g. {@code @Value("${server.port:8080}")}.
+ * Placeholders take their value from the {@link org.ioc.contex.enviroment.Environment} of the context, the text after
+ * the first {@code :} being the default. The value is converted to the type of the field or parameter.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface Value {
+    String value();
+}
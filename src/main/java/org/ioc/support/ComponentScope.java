@@ -0,0 +1,28 @@
+package org.ioc.support;
+
+import org.ioc.engine.ComponentModel;
+
+import java.util.function.Supplier;
+
+/**
+ * Custom scope for components with {@link org.ioc.engine.ScopeType#THREAD} or {@link org.ioc.engine.ScopeType#CUSTOM}
+ * scope (e.g. request or tenant). Dependents of a scoped component receive a proxy which asks the scope for the
+ * current instance on every method call, so this lookup should be cheap.
+ * <p>
+ * {@link org.ioc.engine.ScopedInstances} can be used to hold the instances of one active scope.
+ */
+public interface ComponentScope {
+    /**
+     * Returns the instance of the component bound to the currently active scope.
+     *
+     * @param componentModel  - The scoped component.
+     * @param instanceFactory - Creates a new instance when the active scope has none yet.
+     * @return - The current instance of the component.
+     */
+    Object get(ComponentModel componentModel, Supplier<Object> instanceFactory);
+
+    /**
+     * Ends the currently active scope and runs the {@link org.ioc.stereotype.PreDestroy} methods of its instances.
+     */
+    void end();
+}
@@ -0,0 +1,79 @@
+package org.ioc.support;
+
+import org.ioc.engine.ComponentModel;
+
+import java.lang.reflect.Method;
+
+/**
+ * Receives the runtime events of a context: bean lookups, new instances and calls on proxies. It is called on the hot
+ * paths of the container, so implementations should only increment counters and never block.
+ * <p>
+ * {@link org.ioc.engine.metrics.DefaultContainerMetrics} keeps them in memory and can expose them over JMX.
+ */
+public interface ContainerMetrics {
+    /**
+     * Metrics that record nothing, used when no metrics are configured.
+     */
+    ContainerMetrics NOOP = new ContainerMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void onBeanLookup(Class<?> requestedType, String requestedName, boolean found) {
+        }
+
+        @Override
+        public void onInstanceCreated(ComponentModel componentModel) {
+        }
+
+        @Override
+        public void onProxyInvocation(ComponentModel componentModel, Method method) {
+        }
+
+        @Override
+        public void onAspectChain(ComponentModel componentModel, Method method, long nanos) {
+        }
+    };
+
+    /**
+     * @return - False if the events are ignored, so that callers can skip measuring durations.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called for every getBean call.
+     *
+     * @param requestedType - The requested type, null for a lookup by name.
+     * @param requestedName - The requested name, may be null for a lookup by type.
+     * @param found         - Whether a component was found.
+     */
+    void onBeanLookup(Class<?> requestedType, String requestedName, boolean found);
+
+    /**
+     * Called every time a new instance of a component or bean is created, whatever its scope.
+     *
+     * @param componentModel - The component or bean.
+     */
+    void onInstanceCreated(ComponentModel componentModel);
+
+    /**
+     * Called for every method call on the proxy of a component or bean.
+     *
+     * @param componentModel - The proxied component or bean.
+     * @param method         - The called method.
+     */
+    void onProxyInvocation(ComponentModel componentModel, Method method);
+
+    /**
+     * Called after a method with aspects returned.
+     *
+     * @param componentModel - The proxied component.
+     * @param method         - The called method.
+     * @param nanos          - Time spent in the aspect handlers and the method itself.
+     */
+    void onAspectChain(ComponentModel componentModel, Method method, long nanos);
+}
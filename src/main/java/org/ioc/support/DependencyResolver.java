@@ -2,9 +2,51 @@ package org.ioc.support;
 
 import org.ioc.engine.DependencyParam;
 
+import java.util.Set;
+
 public interface DependencyResolver {
+    /**
+     * How long an instance given by a resolver is used.
+     */
+    enum Scope {
+        /**
+         * Resolved once, when the dependencies are resolved, and shared by every dependency of the same type and
+         * qualifier.
+         */
+        SINGLETON,
+
+        /**
+         * Resolved again for every injection.
+         */
+        PROTOTYPE,
+
+        /**
+         * Resolved on the first injection, then shared like a singleton.
+         */
+        LAZY
+    }
 
     boolean canResolve(DependencyParam dependencyParam);
 
     Object resolve(DependencyParam dependencyParam);
+
+    default Scope getScope() {
+        return Scope.SINGLETON;
+    }
+
+    /**
+     * @param dependencyParam - A dependency this resolver can resolve.
+     * @return - The scope of the instances given for the dependency, by default the scope of the resolver.
+     */
+    default Scope getScope(DependencyParam dependencyParam) {
+        return this.getScope();
+    }
+
+    /**
+     * @return - The dependency types this resolver handles, so that it is only asked for them. Empty to be asked for
+     * every dependency no component satisfies.
+     */
+    default Set<Class<?>> getResolvableTypes() {
+        return Set.of();
+    }
 }
@@ -0,0 +1,18 @@
+package org.ioc.support;
+
+/**
+ * Injection point that gives access to a component on demand instead of injecting its instance once.
+ * <p>
+ * A singleton depending on a {@link org.ioc.engine.ScopeType#PROTOTYPE} or pooled component can inject
+ * {@code Provider<T>} and call {@link #get()} whenever it needs a fresh instance. The provider is bound to the resolved
+ * component when the context starts, so calling it never looks the component up again.
+ *
+ * @param <T> - The type of the provided component.
+ */
+@FunctionalInterface
+public interface Provider<T> {
+    /**
+     * @return - The instance of the component, a new one for every call if the component is a prototype.
+     */
+    T get();
+}